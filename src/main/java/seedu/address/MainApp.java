@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,21 +14,26 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
+import seedu.address.logic.BackgroundExporter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.IndexCache;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StreamCompression;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,6 +49,8 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindSaver saver;
+    protected AddressBookLoader loader;
     protected Model model;
     protected Config config;
 
@@ -57,40 +65,42 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // the data is loaded in the background while the window is shown, starting from an empty model
+        model = new ModelManager(new AddressBook(), userPrefs);
+        loader = new AddressBookLoader(storage, new IndexCache(storage.getAddressBookFilePath()), model,
+                Platform::runLater, status -> ui.showLoadingStatus(status));
 
-        logic = new LogicManager(model, storage);
+        saver = new WriteBehindSaver(storage, e -> ui.showSaveFailure(
+                LogicManager.getSaveFailureMessage(e, storage.getAddressBookFilePath())));
+        BackgroundExporter exporter = new BackgroundExporter(Platform::runLater,
+                status -> ui.showLoadingStatus(status));
+        logic = new LogicManager(model, storage, saver, loader, exporter);
 
         ui = new UiManager(logic);
+        loader.start();
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the storage for the address book at {@code filePath}, in the format named by its extension:
+     * a directory of shards for {@value ShardedAddressBookStorage#DIRECTORY_EXTENSION}, binary for
+     * {@value BinaryAddressBookStorage#FILE_EXTENSION} files and json otherwise, compressed for
+     * {@value StreamCompression#FILE_EXTENSION} files.
+     * Single-file formats are journaled so that saves append only the changes.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample Ethical Insurance.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty Ethical Insurance.");
-            initialData = new AddressBook();
+    private AddressBookStorage initAddressBookStorage(Path filePath) {
+        if (ShardedAddressBookStorage.isShardDirectory(filePath)) {
+            logger.info("Using sharded address book directory " + filePath);
+            // rewrites only the shards that changed, so it needs no journal
+            return new ShardedAddressBookStorage(filePath);
         }
-
-        return new ModelManager(initialData, userPrefs);
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            logger.info("Using binary address book file " + filePath);
+            return new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        }
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
     }
 
     private void initLogging(Config config) {
@@ -177,6 +187,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Ethical Insurance ] =============================");
+        saver.shutdown();
+        try {
+            loader.saveIndexCache();
+        } catch (IOException e) {
+            logger.warning("Failed to save index cache " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -48,6 +48,42 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns true if every character of {@code s} is printable ASCII, from space to '~'.
+     * Equivalent to matching {@link ValidationConstants#PRINTABLE_ASCII_REGEX}, in a single pass.
+     */
+    public static boolean isPrintableAscii(String s) {
+        requireNonNull(s);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < ' ' || c > '~') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by {@code [A-Za-z0-9]}.
+     */
+    public static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter, the characters matched by {@code [A-Za-z]}.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, the characters matched by {@code \d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
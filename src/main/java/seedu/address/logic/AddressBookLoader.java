@@ -0,0 +1,168 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.TagFolderCounts;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.IndexCache;
+import seedu.address.storage.PersonSource;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the address book from storage on a background thread, so that the window can be shown before the data
+ * is read, and publishes the loaded persons to an initially empty model in batches.
+ *
+ * Each batch is published as a separate task on the ui executor, so the ui stays responsive between batches.
+ * Storages that can decode persons on demand only decode each batch as it is published, so the first batch is
+ * shown after the same work whatever the size of the book.
+ * The sample address book is loaded if the data file is not found, and nothing is loaded if it cannot be read.
+ *
+ * If the index cache matches the data, the sidebar is restored from it instead of being counted from the tags
+ * of the loaded persons.
+ */
+public class AddressBookLoader {
+
+    public static final int BATCH_SIZE = 500;
+
+    public static final String MESSAGE_READING = "Reading data file...";
+    public static final String MESSAGE_LOADING = "Loading data... %1$d of %2$d persons";
+    public static final String MESSAGE_LOADED = "Loaded %1$d persons";
+    public static final String MESSAGE_LOAD_FAILED = "Data file could not be loaded, starting with an empty book";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Storage storage;
+    private final IndexCache indexCache;
+    private final Model model;
+    private final Executor uiExecutor;
+    private final Consumer<String> statusHandler;
+    private volatile boolean isDone;
+    private boolean isReadFromFile; // false while the sample data is loaded instead
+
+    /**
+     * Creates an {@code AddressBookLoader} that loads from {@code storage} into {@code model}, using the counts
+     * cached in {@code indexCache} if they match the data.
+     * The model is only modified by tasks run on {@code uiExecutor}, which also reports the progress of loading
+     * to {@code statusHandler}.
+     */
+    public AddressBookLoader(Storage storage, IndexCache indexCache, Model model, Executor uiExecutor,
+            Consumer<String> statusHandler) {
+        requireAllNonNull(storage, indexCache, model, uiExecutor, statusHandler);
+        this.storage = storage;
+        this.indexCache = indexCache;
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.statusHandler = statusHandler;
+    }
+
+    /**
+     * Starts reading the address book on a new background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, "data-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns true once every loaded person has been published to the model, or loading has failed.
+     * The data in the model must not be saved before then, as it would overwrite the data file with part of it.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Reads the address book and publishes its persons. Runs on the calling thread up to the first batch.
+     */
+    void load() {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        uiExecutor.execute(() -> statusHandler.accept(MESSAGE_READING));
+        PersonSource persons;
+        try {
+            Optional<PersonSource> personsOptional = storage.readPersons();
+            if (personsOptional.isEmpty()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample Ethical Insurance.");
+            }
+            isReadFromFile = personsOptional.isPresent();
+            persons = personsOptional.orElseGet(() ->
+                    PersonSource.of(SampleDataUtil.getSampleAddressBook().getPersonList()));
+        } catch (DataLoadingException | RuntimeException e) {
+            logFailure(e);
+            uiExecutor.execute(() -> finish(MESSAGE_LOAD_FAILED));
+            return;
+        }
+        Optional<TagFolderCounts> cachedCounts = indexCache.read()
+                .filter(counts -> counts.personCount() == persons.size());
+        uiExecutor.execute(() -> {
+            if (cachedCounts.isPresent() && model.restoreTagFolderCounts(cachedCounts.get())) {
+                logger.info("Restored the sidebar from index cache " + indexCache.getCacheFilePath());
+            }
+            publishFrom(persons, 0);
+        });
+    }
+
+    /**
+     * Caches the counts derived from the data in the model, if the data files hold that same data.
+     * Does nothing otherwise, e.g. if loading is not done or failed, or the last save failed, as the cache would
+     * then not match the data files it is keyed by. Never writes the data itself.
+     */
+    public void saveIndexCache() throws IOException {
+        if (!isDone || !storage.isAddressBookSaved(model.getAddressBook())) {
+            return;
+        }
+        indexCache.save(model.getTagFolderCounts());
+    }
+
+    /**
+     * Decodes and publishes the batch of {@code persons} starting at {@code from}, then schedules the next batch.
+     * If the batch is invalid, the persons published so far are removed again, as for a file that cannot be read.
+     */
+    private void publishFrom(PersonSource persons, int from) {
+        int to = Math.min(from + BATCH_SIZE, persons.size());
+        if (from < to) {
+            try {
+                model.appendPersons(persons.read(from, to));
+            } catch (DataLoadingException | DuplicatePersonException e) {
+                logFailure(e);
+                model.setAddressBook(new AddressBook());
+                finish(MESSAGE_LOAD_FAILED);
+                return;
+            }
+        }
+        if (to == persons.size()) {
+            if (isReadFromFile) {
+                // the model now holds exactly what is in the data file, so there is nothing to write until it changes
+                storage.markAddressBookSaved(model.getAddressBook());
+            }
+            finish(String.format(MESSAGE_LOADED, persons.size()));
+            return;
+        }
+        statusHandler.accept(String.format(MESSAGE_LOADING, to, persons.size()));
+        uiExecutor.execute(() -> publishFrom(persons, to));
+    }
+
+    private void logFailure(Exception e) {
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be starting with an empty Ethical Insurance. " + StringUtil.getDetails(e));
+    }
+
+    private void finish(String status) {
+        isDone = true;
+        statusHandler.accept(status);
+        logger.info(status);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonExportFile;
+
+/**
+ * Exports persons to files on a background thread, so that the ui does not wait for large exports, and reports
+ * the progress of each export.
+ *
+ * Exports run one after another, in the order they were started. Progress is reported to the status handler
+ * through the ui executor.
+ */
+public class BackgroundExporter {
+
+    public static final String MESSAGE_EXPORTING = "Exporting... %1$d of %2$d persons";
+    public static final String MESSAGE_EXPORTED = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundExporter.class);
+
+    private final Executor taskExecutor;
+    private final Executor uiExecutor;
+    private final Consumer<String> statusHandler;
+
+    /**
+     * Creates a {@code BackgroundExporter} that exports on its own background thread and reports progress to
+     * {@code statusHandler} through {@code uiExecutor}.
+     */
+    public BackgroundExporter(Executor uiExecutor, Consumer<String> statusHandler) {
+        this(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-exporter");
+            thread.setDaemon(true);
+            return thread;
+        }), uiExecutor, statusHandler);
+    }
+
+    /**
+     * Creates a {@code BackgroundExporter} that exports on {@code taskExecutor} and reports progress to
+     * {@code statusHandler} through {@code uiExecutor}.
+     */
+    public BackgroundExporter(Executor taskExecutor, Executor uiExecutor, Consumer<String> statusHandler) {
+        requireAllNonNull(taskExecutor, uiExecutor, statusHandler);
+        this.taskExecutor = taskExecutor;
+        this.uiExecutor = uiExecutor;
+        this.statusHandler = statusHandler;
+    }
+
+    /**
+     * Starts exporting {@code persons} to {@code filePath}, see {@link PersonExportFile}.
+     * {@code persons} must not be modified afterwards; callers should pass a copy of a list that can change.
+     */
+    public void export(List<Person> persons, Path filePath) {
+        requireAllNonNull(persons, filePath);
+        taskExecutor.execute(() -> {
+            int total = persons.size();
+            report(String.format(MESSAGE_EXPORTING, 0, total));
+            try {
+                PersonExportFile.write(persons, filePath,
+                        written -> report(String.format(MESSAGE_EXPORTING, written, total)));
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Could not export to " + filePath + ": " + e);
+                report(String.format(MESSAGE_EXPORT_FAILED, filePath, e.getMessage()));
+                return;
+            }
+            logger.info("Exported " + total + " persons to " + filePath);
+            report(String.format(MESSAGE_EXPORTED, total, filePath));
+        });
+    }
+
+    private void report(String status) {
+        uiExecutor.execute(() -> statusHandler.accept(status));
+    }
+}
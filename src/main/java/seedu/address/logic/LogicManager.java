@@ -16,9 +16,11 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.TagFolder;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -29,19 +31,51 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
-    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+    public static final String MESSAGE_STILL_LOADING =
+            "Data is still being loaded. Please try again once loading has finished.";
+
+    private static final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final WriteBehindSaver saver; // null => save synchronously
+    private final AddressBookLoader loader; // null => data is already loaded
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Data is saved before each command returns, and save failures are thrown as {@code CommandException}s.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands data to {@code saver} after each command instead of waiting for
+     * it to be saved. Save failures are reported through {@code saver}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver) {
+        this(model, storage, saver, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} whose data is still being loaded into {@code model} by {@code loader}.
+     * Until loading is done, commands that modify the data or need all of it are refused and no data is saved.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver, AddressBookLoader loader) {
+        this(model, storage, saver, loader, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} whose export commands run on {@code exporter}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver, AddressBookLoader loader,
+            BackgroundExporter exporter) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.saver = saver;
+        this.loader = loader;
+        addressBookParser = exporter == null ? new AddressBookParser() : new AddressBookParser(exporter);
     }
 
     @Override
@@ -50,6 +84,13 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (loader != null && !loader.isDone()) {
+            if (command.needsAllData()) {
+                throw new CommandException(MESSAGE_STILL_LOADING);
+            }
+            // saving now would overwrite the data file with the part of it loaded so far
+            return command.execute(model);
+        }
         commandResult = command.execute(model);
 
         // Only save the address book if the command mutates the data
@@ -57,30 +98,42 @@ public class LogicManager implements Logic {
             model.pushMutableCommandHistory(command);
         }
 
+        if (saver != null) {
+            saver.submit(model.getAddressBook().snapshot(), new UserPrefs(model.getUserPrefs()));
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
             storage.saveUserPrefs(model.getUserPrefs());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            Path filePath = storage.getAddressBookFilePath();
-            logger.severe("Could not save data to file due to insufficient permission: " + filePath);
-
-            // check permission of filePath
-            Path parentPath = (filePath != null) ? filePath.getParent() : null;
-            boolean isParentPathNotWritable = (parentPath != null) && !Files.isWritable(parentPath);
-            boolean isFilePathNotWritable = (filePath != null) && !Files.isWritable(filePath);
-            if (isParentPathNotWritable || isFilePathNotWritable) {
-                throw new CommandException(
-                        String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, filePath), ioe);
-            }
-
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe, storage.getAddressBookFilePath()), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the message to show the user when saving data to {@code filePath} failed with {@code ioe}.
+     */
+    public static String getSaveFailureMessage(IOException ioe, Path filePath) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+
+        logger.severe("Could not save data to file due to insufficient permission: " + filePath);
+
+        // check permission of filePath
+        Path parentPath = (filePath != null) ? filePath.getParent() : null;
+        boolean isParentPathNotWritable = (parentPath != null) && !Files.isWritable(parentPath);
+        boolean isFilePathNotWritable = (filePath != null) && !Files.isWritable(filePath);
+        if (isParentPathNotWritable || isFilePathNotWritable) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, filePath);
+        }
+
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
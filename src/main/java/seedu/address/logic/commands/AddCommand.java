@@ -111,6 +111,16 @@ public class AddCommand extends Command {
         return String.format(MESSAGE_UNDO_SUCCESS, toAdd);
     }
 
+    /**
+     * Adds the person again after an undo. The person was already checked for duplicates when first added.
+     */
+    @Override
+    public CommandResult redo(Model model) {
+        requireNonNull(model);
+        model.addPerson(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
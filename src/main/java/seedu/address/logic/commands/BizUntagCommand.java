@@ -75,12 +75,15 @@ public class BizUntagCommand extends Command {
                             "[" + missingFeatures + "]"));
         }
 
-        this.bizTags = model.getBizTags(); // Save
+        // keep only the removed features so that undo restores them without copying every declaration
+        HashMap<FeatureTag, Set<Tag>> declared = model.getBizTags();
+        this.bizTags = new HashMap<>();
 
         StringBuilder unTaggedFeatures = new StringBuilder();
         for (FeatureTag feature : features) {
-            Set<Tag> tags = bizTags.get(feature);
+            Set<Tag> tags = declared.get(feature);
             assert tags != null;
+            bizTags.put(feature, tags);
             model.removeBizFeature(feature);
             unTaggedFeatures.append(feature.toString() + " " + tags.toString() + "\n");
         }
@@ -45,7 +45,7 @@ public class ClearCommand extends Command {
         requireNonNull(model);
 
         // Store a copy of current address book for undo functionality
-        currentAddressBook = new AddressBook(model.getAddressBook().getPersonList());
+        currentAddressBook = model.getAddressBook().snapshot();
         currentTagFolders = model.getActiveTagFoldersCopy();
 
         // Clear the address book
@@ -32,6 +32,14 @@ public abstract class Command {
         return false;
     }
 
+    /**
+     * Returns true if the command needs all the data to be loaded before it can run.
+     * Mutable commands always do; other commands that read the whole address book at once override this.
+     */
+    public boolean needsAllData() {
+        return isMutable();
+    }
+
     /**
      * Undoes the command, reverting the model to its previous state.
      * This method should only be called if the command is mutable.
@@ -44,4 +52,17 @@ public abstract class Command {
     public String undo(Model model) throws UnsupportedOperationException {
         throw new UnsupportedOperationException("This command does not support undo.");
     }
+
+    /**
+     * Reapplies the command after it has been undone.
+     * By default the command is executed again. Commands that remember the change they made override this
+     * to reapply that change directly, without repeating validation and lookups.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult redo(Model model) throws CommandException {
+        return execute(model);
+    }
 }
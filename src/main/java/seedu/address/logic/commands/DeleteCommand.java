@@ -8,9 +8,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
 /**
@@ -48,8 +46,9 @@ public class DeleteCommand extends Command {
 
     private final Index targetIndex;
 
+    // the change made by the last execution, kept to undo and redo it
     private Person personToDelete = null;
-    private ReadOnlyAddressBook currentAddressBook = null;
+    private int deletedFrom = -1;
 
     public DeleteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
@@ -64,8 +63,8 @@ public class DeleteCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        currentAddressBook = new AddressBook(model.getAddressBook().getPersonList());
         personToDelete = personToDelete == null ? lastShownList.get(targetIndex.getZeroBased()) : personToDelete;
+        deletedFrom = model.getAddressBook().getPersonList().indexOf(personToDelete);
         model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
@@ -93,13 +92,26 @@ public class DeleteCommand extends Command {
 
         if (personToDelete != null) {
             // Re-insert the deleted person at the original index
-            model.setAddressBook(currentAddressBook);
+            model.insertPerson(deletedFrom, personToDelete);
             return String.format(MESSAGE_UNDO_SUCCESS, Messages.format(personToDelete));
         } else {
             throw new IllegalStateException(MESSAGE_UNDO_FAILED);
         }
     }
 
+    /**
+     * Deletes the same person again after an undo, without looking it up in the displayed list.
+     */
+    @Override
+    public CommandResult redo(Model model) throws CommandException {
+        requireNonNull(model);
+        if (personToDelete == null) {
+            return execute(model);
+        }
+        model.deletePerson(personToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
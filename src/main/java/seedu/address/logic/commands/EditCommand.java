@@ -22,9 +22,7 @@ import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -99,9 +97,9 @@ public class EditCommand extends Command {
     private final Index index;
     private final EditPersonDescriptor editPersonDescriptor;
 
-    // to keep the current status of the person to be edited
+    // the change made by the last execution, kept to undo and redo it
     private Person personToEdit = null;
-    private ReadOnlyAddressBook currentAddressBook = null;
+    private Person editedPerson = null;
 
     /**
      * @param index of the person in the filtered person list to edit
@@ -125,7 +123,6 @@ public class EditCommand extends Command {
         }
 
         personToEdit = personToEdit == null ? lastShownList.get(index.getZeroBased()) : personToEdit;
-        currentAddressBook = new AddressBook(model.getAddressBook().getPersonList());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
@@ -133,6 +130,7 @@ public class EditCommand extends Command {
         }
 
         model.setPerson(personToEdit, editedPerson);
+        this.editedPerson = editedPerson;
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
     }
@@ -149,14 +147,28 @@ public class EditCommand extends Command {
     @Override
     public String undo(Model model) {
         requireNonNull(model);
-        if (personToEdit != null) {
-            model.setAddressBook(currentAddressBook);
+        if (personToEdit != null && editedPerson != null) {
+            model.setPerson(editedPerson, personToEdit);
             return String.format(MESSAGE_UNDO_SUCCESS, personToEdit);
         } else {
             throw new IllegalStateException(MESSAGE_UNDO_FAILED);
         }
     }
 
+    /**
+     * Applies the same edit again after an undo, without rebuilding and revalidating the edited person.
+     */
+    @Override
+    public CommandResult redo(Model model) throws CommandException {
+        requireNonNull(model);
+        if (personToEdit == null || editedPerson == null) {
+            return execute(model);
+        }
+        model.setPerson(personToEdit, editedPerson);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
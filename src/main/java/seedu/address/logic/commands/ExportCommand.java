@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BackgroundExporter;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports the displayed persons, or every person in the address book, to a CSV or JSON Lines file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the displayed persons, or all persons, to a CSV or JSON Lines file.\n"
+            + "Parameters: FILE_PATH (must end with .csv or .jsonl) [" + PREFIX_ALL + "]\n"
+            + "Example: " + COMMAND_WORD + " exports/friends.csv";
+
+    public static final String MANUAL = String.join("\n",
+            "NAME",
+            "  export — Exports the displayed persons, or all persons, to a CSV or JSON Lines file.",
+            "",
+            "USAGE",
+            "  export FILE_PATH [all/]",
+            "",
+            "PARAMETERS",
+            "  • FILE_PATH: path of a .csv file, or of a .jsonl file with one person per line",
+            "  • all/ (optional): export every person instead of only the displayed ones",
+            "",
+            "DESCRIPTION",
+            "  • Any file at FILE_PATH is replaced.",
+            "  • The export runs in the background; its progress is shown in the status bar.",
+            "  • An exported CSV file can be imported again using the 'import' command.",
+            "",
+            "EXAMPLES",
+            "  list t/friends",
+            "  export exports/friends.csv",
+            "  export exports/everyone.jsonl all/",
+            "",
+            "SEE MORE",
+            "  https://ay2526s1-cs2103-f13-2.github.io/tp/UserGuide.html#exporting-persons--export"
+    );
+
+    public static final String MESSAGE_SUCCESS = "Exporting %1$d person(s) to %2$s";
+
+    private final Path filePath;
+    private final boolean isWholeBook;
+    private final BackgroundExporter exporter;
+
+    /**
+     * Creates an ExportCommand that exports to {@code filePath} using {@code exporter}, exporting every person
+     * if {@code isWholeBook} and only the displayed persons otherwise.
+     */
+    public ExportCommand(Path filePath, boolean isWholeBook, BackgroundExporter exporter) {
+        requireNonNull(filePath);
+        requireNonNull(exporter);
+        this.filePath = filePath;
+        this.isWholeBook = isWholeBook;
+        this.exporter = exporter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // the persons are immutable, so copying the list of them is enough to keep the export consistent
+        // with the moment it was started; the copy holds references only, not a second copy of the data
+        List<Person> persons = isWholeBook
+                ? model.getAddressBook().snapshot().getPersonList()
+                : List.copyOf(model.getFilteredPersonList());
+        exporter.export(persons, filePath);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), filePath));
+    }
+
+    @Override
+    public String man() {
+        return MANUAL;
+    }
+
+    /**
+     * Returns true, as an export started while loading would silently leave out the persons not loaded yet.
+     */
+    @Override
+    public boolean needsAllData() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && isWholeBook == otherExportCommand.isWholeBook;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("isWholeBook", isWholeBook)
+                .toString();
+    }
+}
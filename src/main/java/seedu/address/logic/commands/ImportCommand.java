@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonFile;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Imports the persons in a CSV or json file into the address book, skipping those already in it.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports the persons in a CSV or json file into the address book.\n"
+            + "Parameters: FILE_PATH (must end with .csv or .json)\n"
+            + "Example: " + COMMAND_WORD + " data/clients.csv";
+
+    public static final String MANUAL = String.join("\n",
+            "NAME",
+            "  import — Imports the persons in a CSV or json file into the address book.",
+            "",
+            "USAGE",
+            "  import FILE_PATH",
+            "",
+            "PARAMETERS",
+            "  • FILE_PATH: path of a .csv file, or of a .json file in the format of the data file",
+            "",
+            "DESCRIPTION",
+            "  • A CSV file starts with a header naming its columns: name, phone, email, address and",
+            "    optionally tags, which holds the tags of a person separated by spaces.",
+            "  • Persons already in the address book are skipped.",
+            "  • Nothing is imported if any person in the file is invalid.",
+            "  • The whole import can be undone using the 'undo' command.",
+            "",
+            "EXAMPLES",
+            "  import data/clients.csv",
+            "",
+            "SEE MORE",
+            "  https://ay2526s1-cs2103-f13-2.github.io/tp/UserGuide.html#importing-persons--import"
+    );
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s";
+    public static final String MESSAGE_SKIPPED = "\nSkipped %1$d person(s) already in the address book";
+    public static final String MESSAGE_FILE_NOT_FOUND = "No file found at %1$s";
+    public static final String MESSAGE_INVALID_FILE = "Could not import %1$s:\n%2$s";
+    public static final String MESSAGE_UNDO_SUCCESS = "Removed %1$d imported person(s)";
+    public static final String MESSAGE_UNDO_FAILED = "No persons were imported";
+
+    private final Path filePath;
+
+    // the persons added by the last execution, kept to undo and redo the import
+    private List<Person> importedPersons = null;
+    private int skippedCount;
+
+    /**
+     * Creates an ImportCommand to import the persons in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        Optional<ReadOnlyAddressBook> imported;
+        try {
+            imported = CsvPersonFile.isCsvFile(filePath)
+                    ? Optional.of(CsvPersonFile.read(filePath))
+                    : new JsonAddressBookStorage(filePath).readAddressBook();
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, e.getCause().getMessage()), e);
+        }
+        if (imported.isEmpty()) {
+            // the file was removed after the check above
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        // the file was validated in parallel as it was read, so the whole batch goes in as one change
+        List<Person> persons = imported.get().getPersonList();
+        importedPersons = model.importPersons(persons);
+        skippedCount = persons.size() - importedPersons.size();
+        return new CommandResult(getSuccessMessage());
+    }
+
+    private String getSuccessMessage() {
+        String message = String.format(MESSAGE_SUCCESS, importedPersons.size(), filePath);
+        return skippedCount == 0 ? message : message + String.format(MESSAGE_SKIPPED, skippedCount);
+    }
+
+    @Override
+    public String man() {
+        return MANUAL;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return true;
+    }
+
+    /**
+     * Undoes the import by deleting all the persons it added, in a single step.
+     */
+    @Override
+    public String undo(Model model) {
+        requireNonNull(model);
+        if (importedPersons == null) {
+            throw new IllegalStateException(MESSAGE_UNDO_FAILED);
+        }
+        model.deletePersons(importedPersons);
+        return String.format(MESSAGE_UNDO_SUCCESS, importedPersons.size());
+    }
+
+    /**
+     * Adds the imported persons again after an undo, without reading the file again.
+     */
+    @Override
+    public CommandResult redo(Model model) throws CommandException {
+        requireNonNull(model);
+        if (importedPersons == null) {
+            return execute(model);
+        }
+        model.importPersons(importedPersons);
+        return new CommandResult(getSuccessMessage());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
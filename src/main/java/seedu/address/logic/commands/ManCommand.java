@@ -97,6 +97,8 @@ public class ManCommand extends Command {
         m.put(ListCommand.COMMAND_WORD, ListCommand.MANUAL);
         m.put(FindCommand.COMMAND_WORD, FindCommand.MANUAL);
         m.put(ClearCommand.COMMAND_WORD, ClearCommand.MANUAL);
+        m.put(ImportCommand.COMMAND_WORD, ImportCommand.MANUAL);
+        m.put(ExportCommand.COMMAND_WORD, ExportCommand.MANUAL);
         m.put(StatsCommand.COMMAND_WORD, StatsCommand.MANUAL);
         m.put(BizTagCommand.COMMAND_WORD, BizTagCommand.MANUAL);
         m.put(BizUntagCommand.COMMAND_WORD, BizUntagCommand.MANUAL);
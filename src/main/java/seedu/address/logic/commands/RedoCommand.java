@@ -55,7 +55,7 @@ public class RedoCommand extends Command {
             Command command = lastCommand.get();
             // Check if the command is mutable before executing (redo)
             if (command.isMutable()) {
-                CommandResult result = command.execute(model);
+                CommandResult result = command.redo(model);
                 // After redoing, add the command back to the undo stack
                 model.pushMutableCommandHistory(command);
                 return new CommandResult(String.format(MESSAGE_SUCCESS, result.getFeedbackToUser()));
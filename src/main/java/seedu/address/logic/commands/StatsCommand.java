@@ -1,19 +1,17 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.TagMatchesAllPredicate;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagTally;
 
 /**
  * Presents Statistics on Customers in {@code AddressBook}.
@@ -52,9 +50,9 @@ public class StatsCommand extends Command {
         requireNonNull(model);
         HashMap<FeatureTag, Set<Tag>> bizTags = model.getBizTags();
 
-        FilteredList<Person> filteredPersons =
-                new FilteredList<>(model.getPersonListCopy());
-        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        // count every tag in one pass instead of filtering the list once per tag
+        List<Person> persons = model.getPersonListCopy();
+        TagTally tally = TagTally.of(persons);
 
         ArrayList<String> tables = new ArrayList<>();
 
@@ -62,7 +60,7 @@ public class StatsCommand extends Command {
         String barTable = "----------";
 
         for (FeatureTag category : bizTags.keySet()) {
-            tables.add(this.getFeatureStats(filteredPersons, bizTags, category));
+            tables.add(this.getFeatureStats(tally, persons.size(), bizTags, category));
             tables.add(barTable);
             tables.add("\n");
         }
@@ -74,7 +72,7 @@ public class StatsCommand extends Command {
     }
 
     private String getFeatureStats(
-            FilteredList<Person> filteredPersons, HashMap<FeatureTag, Set<Tag>> bizTags, FeatureTag feature) {
+            TagTally tally, int personCount, HashMap<FeatureTag, Set<Tag>> bizTags, FeatureTag feature) {
         Set<Tag> tags = bizTags.get(feature);
         assert tags != null;
         ArrayList<String> results = new ArrayList<>();
@@ -93,17 +91,13 @@ public class StatsCommand extends Command {
         int catTotal = 0;
         int catCount = 0;
         int catMax = 0;
-        int catMin = filteredPersons.size();
+        int catMin = personCount;
 
         StringBuilder catMaxTag = new StringBuilder();
         StringBuilder catMinTag = new StringBuilder();
 
         for (Tag tag : tags) {
-            Set<Tag> set = new LinkedHashSet<>();
-            set.add(tag);
-            requireNonNull(filteredPersons);
-            filteredPersons.setPredicate(new TagMatchesAllPredicate(set));
-            int total = filteredPersons.size();
+            int total = tally.countOf(tag);
             catTotal += total;
             catCount++;
 
@@ -153,6 +147,14 @@ public class StatsCommand extends Command {
         return MANUAL;
     }
 
+    /**
+     * Returns true, as statistics computed while loading would silently count only the persons loaded so far.
+     */
+    @Override
+    public boolean needsAllData() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return (other instanceof StatsCommand);
@@ -1,6 +1,6 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_INPUT_CHARACTERS;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -10,6 +10,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BackgroundExporter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.BizTagCommand;
 import seedu.address.logic.commands.BizUntagCommand;
@@ -18,8 +20,10 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ManCommand;
 import seedu.address.logic.commands.RedoCommand;
@@ -38,6 +42,24 @@ public class AddressBookParser {
             Pattern.compile("(?<commandWord>[a-zA-Z-]+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final BackgroundExporter exporter;
+
+    /**
+     * Creates an {@code AddressBookParser} whose export commands export on the calling thread, without
+     * reporting their progress.
+     */
+    public AddressBookParser() {
+        this(new BackgroundExporter(Runnable::run, Runnable::run, unused -> { }));
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose export commands export using {@code exporter}.
+     */
+    public AddressBookParser(BackgroundExporter exporter) {
+        requireNonNull(exporter);
+        this.exporter = exporter;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -48,7 +70,7 @@ public class AddressBookParser {
     public Command parseCommand(String userInput) throws ParseException {
 
         // Reject any non-standard characters to prevent potential security issues
-        if (!userInput.matches(PRINTABLE_ASCII_REGEX)) {
+        if (!StringUtil.isPrintableAscii(userInput)) {
             throw new ParseException(MESSAGE_INVALID_INPUT_CHARACTERS);
         }
 
@@ -85,6 +107,12 @@ public class AddressBookParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser(exporter).parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -16,5 +16,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_SAVE = new Prefix("s/");
     public static final Prefix PREFIX_DELETE = new Prefix("d/");
     public static final Prefix PREFIX_FEATURE = new Prefix("f/");
+    public static final Prefix PREFIX_ALL = new Prefix("all/");
 
 }
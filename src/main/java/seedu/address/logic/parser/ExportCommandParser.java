@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
+
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.BackgroundExporter;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    private final BackgroundExporter exporter;
+
+    /**
+     * Creates an {@code ExportCommandParser} whose commands export using {@code exporter}.
+     */
+    public ExportCommandParser(BackgroundExporter exporter) {
+        requireNonNull(exporter);
+        this.exporter = exporter;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ALL);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ALL);
+
+        String path = argMultimap.getPreamble();
+        String extension = path.toLowerCase(Locale.ROOT);
+        if (!FileUtil.isValidPath(path) || !(extension.endsWith(".csv") || extension.endsWith(".jsonl"))
+                || argMultimap.getValue(PREFIX_ALL).filter(value -> !value.isEmpty()).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        boolean isWholeBook = argMultimap.getValue(PREFIX_ALL).isPresent();
+        return new ExportCommand(Paths.get(path), isWholeBook, exporter);
+    }
+
+}
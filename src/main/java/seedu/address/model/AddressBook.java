@@ -2,12 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -15,7 +22,16 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    private static final AtomicLong versions = new AtomicLong();
+
     private final UniquePersonList persons;
+    private final TagIndex tagIndex = new TagIndex();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    // the indexes are built on first use, so that persons loaded in bulk are not indexed before they are searched
+    private boolean isTagIndexBuilt;
+    private boolean isTrigramIndexBuilt;
+    private ReadOnlyAddressBook lastSnapshot; // reused until the next mutation
+    private long version = versions.incrementAndGet();
 
     /**
      * Creates an empty AddressBook.
@@ -31,6 +47,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         // Create a deep copy of persons to ensure immutability
         requireNonNull(newPersons);
         persons = new UniquePersonList(newPersons);
+        invalidateIndexes();
     }
 
     /**
@@ -49,6 +66,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        invalidateIndexes();
     }
 
     /**
@@ -76,6 +94,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        index(p);
+    }
+
+    /**
+     * Adds {@code newPersons} to the end of the address book as a single change to the person list.
+     * None of the persons may already exist in the address book.
+     */
+    public void addPersons(List<Person> newPersons) {
+        persons.addAll(newPersons);
+        newPersons.forEach(this::index);
     }
 
     /**
@@ -84,6 +112,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void insertPerson(int index, Person p) {
         persons.insert(index, p);
+        index(p);
     }
 
     /**
@@ -95,6 +124,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        unindex(target);
+        index(editedPerson);
     }
 
     /**
@@ -103,6 +134,107 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindex(key);
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook} as a single change to the person list.
+     * Every person must exist in the address book.
+     */
+    public void removePersons(List<Person> keys) {
+        persons.removeAll(keys);
+        invalidateIndexes();
+    }
+
+    private void index(Person p) {
+        markChanged();
+        if (isTagIndexBuilt) {
+            tagIndex.add(p);
+        }
+        if (isTrigramIndexBuilt) {
+            trigramIndex.add(p);
+        }
+    }
+
+    private void unindex(Person p) {
+        markChanged();
+        if (isTagIndexBuilt) {
+            tagIndex.remove(p);
+        }
+        if (isTrigramIndexBuilt) {
+            trigramIndex.remove(p);
+        }
+    }
+
+    private void invalidateIndexes() {
+        markChanged();
+        // drop the stale postings now rather than keeping the old persons reachable until the next query
+        tagIndex.reset(List.of());
+        trigramIndex.reset(List.of());
+        isTagIndexBuilt = false;
+        isTrigramIndexBuilt = false;
+    }
+
+    private TagIndex getTagIndex() {
+        if (!isTagIndexBuilt) {
+            tagIndex.reset(persons.asUnmodifiableObservableList());
+            isTagIndexBuilt = true;
+        }
+        return tagIndex;
+    }
+
+    private TrigramIndex getTrigramIndex() {
+        if (!isTrigramIndexBuilt) {
+            trigramIndex.reset(persons.asUnmodifiableObservableList());
+            isTrigramIndexBuilt = true;
+        }
+        return trigramIndex;
+    }
+
+    private void markChanged() {
+        lastSnapshot = null;
+        version = versions.incrementAndGet();
+    }
+
+    //// tag index queries
+
+    /**
+     * Returns the number of persons carrying every tag named in {@code tagNames}.
+     * Every person is counted if {@code tagNames} is empty.
+     */
+    public int countPersonsWithTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        return tagNames.isEmpty() ? persons.size() : getTagIndex().countAll(tagNames);
+    }
+
+    /**
+     * Returns the names of all tags carried by at least one person in the address book.
+     */
+    public Set<String> getTagNames() {
+        return getTagIndex().getTagNames();
+    }
+
+    //// search index queries
+
+    /**
+     * Returns the persons that may contain any of {@code keywords} in their name, phone or email.
+     * Blank keywords are ignored. Returns {@code Optional.empty()} if some keyword is too short to be looked up,
+     * in which case every person is a candidate.
+     */
+    public Optional<Set<Person>> findCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            if (keyword.isBlank()) {
+                continue;
+            }
+            Optional<Set<Person>> matches = getTrigramIndex().candidatesFor(keyword);
+            if (matches.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(matches.get());
+        }
+        return Optional.of(candidates);
     }
 
     //// util methods
@@ -114,6 +246,23 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    /**
+     * Returns an immutable view of the current persons.
+     * Snapshots taken without any mutation in between share the same copy.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        if (lastSnapshot == null) {
+            lastSnapshot = new AddressBookSnapshot(persons.asUnmodifiableObservableList(), version);
+        }
+        return lastSnapshot;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -0,0 +1,37 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable point-in-time view of an address book.
+ * Persons are immutable, so a snapshot only copies references to them and never deep copies or revalidates them.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+
+    AddressBookSnapshot(List<Person> persons, long version) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.version = version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+}
@@ -14,6 +14,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
+import seedu.address.model.tag.TagFolderCounts;
 
 /**
  * The API of the Model component.
@@ -77,6 +78,32 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Inserts the given person at {@code index} of the address book.
+     * {@code person} must not already exist in the address book.
+     */
+    void insertPerson(int index, Person person);
+
+    /**
+     * Appends the given persons to the address book, e.g. as a batch of persons loaded from storage.
+     * Unlike {@link #addPerson(Person)}, this does not reset the filter of the person list.
+     * None of the persons may already exist in the address book.
+     */
+    void appendPersons(List<Person> persons);
+
+    /**
+     * Adds those of {@code persons} that are not already in the address book, e.g. as a bulk import,
+     * and returns the persons added. The persons are added as a single change to the person list, and the
+     * folders are refreshed once for the whole batch. The persons must be unique among themselves.
+     */
+    List<Person> importPersons(List<Person> persons);
+
+    /**
+     * Deletes the given persons as a single change to the person list, e.g. to undo a bulk import.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -155,6 +182,17 @@ public interface Model {
     /** Recompute the badge counts for all active folders. */
     void refreshActiveTagFolderCounts();
 
+    /** Returns the tag and folder counts of the current address book, e.g. to be cached between runs. */
+    TagFolderCounts getTagFolderCounts();
+
+    /**
+     * Restores the sidebar from {@code counts}, which were taken from an address book that is about to be
+     * appended with {@link #appendPersons(List)}. The folders are not recounted while the first
+     * {@code counts.personCount()} persons are appended.
+     * Returns false, changing nothing, if the address book is not empty or {@code counts} miss a folder.
+     */
+    boolean restoreTagFolderCounts(TagFolderCounts counts);
+
     boolean hasTagFolder(String name);
 
     void addActiveTagFoldersFromUser(List<String> tagNames);
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -22,10 +23,12 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
+import seedu.address.model.person.ClientMatchesPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
+import seedu.address.model.tag.TagFolderCounts;
 import seedu.address.storage.SidebarFolderPrefs;
 
 /**
@@ -48,6 +51,11 @@ public class ModelManager implements Model {
             FXCollections.observableArrayList();
     private final LinkedHashMap<String, Integer> folderIndex =
             new LinkedHashMap<>();
+    // query tag name -> active folders whose query includes that tag
+    private final HashMap<String, List<TagFolder>> foldersByQueryTag =
+            new HashMap<>();
+    // persons still to be appended whose tags are already included in restored folder counts
+    private int restoredPersonsPending;
 
     // --- constructors must come before any methods ---
     public ModelManager() {
@@ -113,8 +121,10 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        restoredPersonsPending = 0;
         activeFolders.clear();
         folderIndex.clear();
+        foldersByQueryTag.clear();
         bootstrapAllTags();
         refreshActiveTagFolderCounts();
         persistUserFoldersToPrefs();
@@ -134,23 +144,75 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        refreshActiveTagFolderCounts();
+        applyTagDelta(target.getTags(), Set.of());
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        applyTagDelta(Set.of(), person.getTags());
+        ensureFoldersExistForTags(person.getTags());
+    }
+
+    @Override
+    public void insertPerson(int index, Person person) {
+        addressBook.insertPerson(index, person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        applyTagDelta(Set.of(), person.getTags());
         ensureFoldersExistForTags(person.getTags());
+    }
+
+    @Override
+    public void appendPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        addressBook.addPersons(persons);
+        if (persons.size() <= restoredPersonsPending) {
+            restoredPersonsPending -= persons.size();
+            return;
+        }
+        restoredPersonsPending = 0;
+        refreshFoldersAfterBatch(persons);
+    }
+
+    @Override
+    public List<Person> importPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        List<Person> newPersons = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            if (!addressBook.hasPerson(person)) {
+                newPersons.add(person);
+            }
+        }
+        addressBook.addPersons(newPersons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        refreshFoldersAfterBatch(newPersons);
+        return newPersons;
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireAllNonNull(targets);
+        addressBook.removePersons(targets);
         refreshActiveTagFolderCounts();
     }
 
+    // one recount per batch instead of a tag delta per person
+    private void refreshFoldersAfterBatch(List<Person> persons) {
+        Set<Tag> tags = new HashSet<>();
+        for (Person person : persons) {
+            tags.addAll(person.getTags());
+        }
+        refreshActiveTagFolderCounts();
+        ensureFoldersExistForTags(tags);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
+        applyTagDelta(target.getTags(), editedPerson.getTags());
         ensureFoldersExistForTags(editedPerson.getTags());
-        refreshActiveTagFolderCounts();
     }
 
     @Override
@@ -177,7 +239,52 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        Optional<Set<Person>> candidates = findSearchCandidates(predicate);
+        if (candidates.isEmpty()) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+        // the candidates only narrow the pass over the current persons; the list tests persons added or replaced
+        // later against the predicate alone, as the candidates no longer cover them
+        NarrowedPredicate narrowed = new NarrowedPredicate(predicate, candidates.get());
+        filteredPersons.setPredicate(narrowed);
+        narrowed.dropCandidates();
+    }
+
+    /**
+     * Returns the candidates of a keyword search found through the trigram index, so that only those candidates
+     * go through the full case-insensitive substring check of {@code predicate}.
+     * Returns {@code Optional.empty()} for other predicates, or if the index cannot narrow the search.
+     */
+    private Optional<Set<Person>> findSearchCandidates(Predicate<Person> predicate) {
+        if (!(predicate instanceof ClientMatchesPredicate clientPredicate)) {
+            return Optional.empty();
+        }
+        return addressBook.findCandidates(clientPredicate.getKeywords());
+    }
+
+    /**
+     * A predicate that rejects persons outside a set of candidates without testing them, until the candidates
+     * are dropped.
+     */
+    private static class NarrowedPredicate implements Predicate<Person> {
+
+        private final Predicate<Person> predicate;
+        private Set<Person> candidates;
+
+        NarrowedPredicate(Predicate<Person> predicate, Set<Person> candidates) {
+            this.predicate = predicate;
+            this.candidates = candidates;
+        }
+
+        void dropCandidates() {
+            candidates = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return (candidates == null || candidates.contains(person)) && predicate.test(person);
+        }
     }
 
     @Override
@@ -346,15 +453,8 @@ public class ModelManager implements Model {
 
     @Override
     public void refreshActiveTagFolderCounts() {
-        var people = getAddressBook().getPersonList();
-
         for (TagFolder tagFolder : activeFolders) {
-            int count = (int) people.stream()
-                    .filter(p -> tagFolder.getQueryTags().stream()
-                            .allMatch(qt -> p.getTags().stream()
-                                    .anyMatch(t -> t.tagName.equals(qt))))
-                    .count();
-            tagFolder.setCount(count);
+            tagFolder.setCount(addressBook.countPersonsWithTags(tagFolder.getQueryTags()));
         }
 
         // Remove folders with zero count
@@ -365,6 +465,88 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public TagFolderCounts getTagFolderCounts() {
+        Map<String, Integer> tagCounts = new HashMap<>();
+        for (String tagName : addressBook.getTagNames()) {
+            tagCounts.put(tagName, addressBook.countPersonsWithTags(List.of(tagName)));
+        }
+        Map<String, Integer> folderCounts = new HashMap<>();
+        for (TagFolder folder : activeFolders) {
+            folderCounts.put(folder.getName(), folder.getCount());
+        }
+        return new TagFolderCounts(addressBook.getSize(), tagCounts, folderCounts);
+    }
+
+    @Override
+    public boolean restoreTagFolderCounts(TagFolderCounts counts) {
+        requireNonNull(counts);
+        Map<String, Integer> folderCounts = counts.folderCounts();
+        if (addressBook.getSize() != 0
+                || !activeFolders.stream().allMatch(folder -> folderCounts.containsKey(folder.getName()))) {
+            return false;
+        }
+
+        // the same folders as bootstrapAllTags and refreshActiveTagFolderCounts would give the complete book
+        for (TagFolder folder : activeFolders) {
+            folder.setCount(folderCounts.get(folder.getName()));
+        }
+        counts.tagCounts().forEach((tagName, count) -> {
+            if (!hasTagFolder(tagName)) {
+                activeFolders.add(new TagFolder(tagName, count));
+            }
+        });
+        sortFolders();
+        restoredPersonsPending = counts.personCount();
+        return true;
+    }
+
+    /**
+     * Adjusts the counts of the active folders affected by a single person changing from {@code oldTags}
+     * to {@code newTags}. Only folders whose query mentions a tag that was added or removed can change,
+     * so the cost depends on the tags touched rather than on the size of the address book.
+     */
+    private void applyTagDelta(Set<Tag> oldTags, Set<Tag> newTags) {
+        Set<String> oldNames = toTagNames(oldTags);
+        Set<String> newNames = toTagNames(newTags);
+
+        Set<TagFolder> affected = new LinkedHashSet<>();
+        for (String name : oldNames) {
+            if (!newNames.contains(name)) {
+                affected.addAll(foldersByQueryTag.getOrDefault(name, List.of()));
+            }
+        }
+        for (String name : newNames) {
+            if (!oldNames.contains(name)) {
+                affected.addAll(foldersByQueryTag.getOrDefault(name, List.of()));
+            }
+        }
+
+        boolean reachedZero = false;
+        for (TagFolder folder : affected) {
+            List<String> query = folder.getQueryTags();
+            int delta = (newNames.containsAll(query) ? 1 : 0) - (oldNames.containsAll(query) ? 1 : 0);
+            if (delta == 0) {
+                continue;
+            }
+            folder.setCount(folder.getCount() + delta);
+            reachedZero |= folder.getCount() == 0 && !folder.isUserCreated();
+        }
+
+        if (reachedZero) {
+            activeFolders.removeIf(f -> !f.isUserCreated() && f.getCount() == 0);
+            sortFolders();
+        }
+    }
+
+    private static Set<String> toTagNames(Set<Tag> tags) {
+        Set<String> names = new HashSet<>();
+        for (Tag tag : tags) {
+            names.add(tag.tagName);
+        }
+        return names;
+    }
+
     @Override
     public void addCompositeTagFolder(List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) {
@@ -401,10 +583,7 @@ public class ModelManager implements Model {
     }
 
     private void bootstrapAllTags() {
-        java.util.Set<String> all = new java.util.HashSet<>();
-        getAddressBook().getPersonList().forEach(p ->
-                p.getTags().forEach(t -> all.add(t.tagName)));
-        addActiveTagFolders(new java.util.ArrayList<>(all));
+        addActiveTagFolders(new ArrayList<>(addressBook.getTagNames()));
     }
 
     private void loadUserSavedFoldersFromPrefs() {
@@ -440,7 +619,7 @@ public class ModelManager implements Model {
     }
 
 
-    // Ensures every tag has a corresponding TagFolder.
+    // Ensures every tag has a corresponding TagFolder, counted from the tag index.
     private void ensureFoldersExistForTags(java.util.Collection<? extends Tag> tags) {
         if (tags == null) {
             return;
@@ -449,7 +628,7 @@ public class ModelManager implements Model {
         for (Tag t : tags) {
             String display = t.tagName;
             if (!hasTagFolder(display)) {
-                activeFolders.add(new TagFolder(display, 0));
+                activeFolders.add(new TagFolder(display, addressBook.countPersonsWithTags(List.of(display))));
                 added = true;
             }
         }
@@ -464,6 +643,12 @@ public class ModelManager implements Model {
         for (int i = 0; i < activeFolders.size(); i++) {
             folderIndex.put(activeFolders.get(i).getName().toLowerCase(), i);
         }
+        foldersByQueryTag.clear();
+        for (TagFolder folder : activeFolders) {
+            for (String queryTag : folder.getQueryTags()) {
+                foldersByQueryTag.computeIfAbsent(queryTag, unused -> new ArrayList<>()).add(folder);
+            }
+        }
     }
 
     @Override
@@ -14,4 +14,19 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a stamp that changes whenever the contents of this address book change.
+     * Stamps are drawn from one increasing sequence, so different address books never share a stamp
+     * unless one is a snapshot of the other.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable view of the current contents of this address book,
+     * which later changes to this address book do not affect.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(getPersonList(), getVersion());
+    }
+
 }
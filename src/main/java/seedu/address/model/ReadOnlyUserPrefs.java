@@ -16,4 +16,11 @@ public interface ReadOnlyUserPrefs {
     Path getAddressBookFilePath();
 
     List<SidebarFolderPrefs> getSavedSidebarFolders();
+
+    /**
+     * Returns a stamp that changes whenever these prefs change.
+     * Stamps are drawn from one increasing sequence, so different prefs never share a stamp
+     * unless one is an unmodified copy of the other.
+     */
+    long getVersion();
 }
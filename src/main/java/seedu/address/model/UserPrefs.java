@@ -7,7 +7,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.core.GuiSettings;
@@ -18,12 +20,17 @@ import seedu.address.storage.SidebarFolderPrefs;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    private static final AtomicLong versions = new AtomicLong();
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
 
     @JsonProperty("savedSidebarFolders")
     private List<SidebarFolderPrefs> savedSidebarFolders = new ArrayList<>();
 
+    @JsonIgnore
+    private long version = versions.incrementAndGet();
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -31,10 +38,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     /**
      * Creates a {@code UserPrefs} with the prefs in {@code userPrefs}.
+     * The copy has the same version as {@code userPrefs} until either of them changes.
      */
     public UserPrefs(ReadOnlyUserPrefs userPrefs) {
         this();
         resetData(userPrefs);
+        version = userPrefs.getVersion();
     }
 
     /**
@@ -53,7 +62,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
-        this.guiSettings = guiSettings;
+        if (!guiSettings.equals(this.guiSettings)) {
+            this.guiSettings = guiSettings;
+            version = versions.incrementAndGet();
+        }
     }
 
     public Path getAddressBookFilePath() {
@@ -62,7 +74,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
-        this.addressBookFilePath = addressBookFilePath;
+        if (!addressBookFilePath.equals(this.addressBookFilePath)) {
+            this.addressBookFilePath = addressBookFilePath;
+            version = versions.incrementAndGet();
+        }
     }
 
     @Override
@@ -99,6 +114,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     }
 
     public void setSavedSidebarFolders(List<SidebarFolderPrefs> folders) {
-        this.savedSidebarFolders = (folders == null) ? new ArrayList<>() : new ArrayList<>(folders);
+        List<SidebarFolderPrefs> newFolders = (folders == null) ? new ArrayList<>() : new ArrayList<>(folders);
+        if (!newFolders.equals(savedSidebarFolders)) {
+            this.savedSidebarFolders = newFolders;
+            version = versions.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 }
@@ -2,7 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.StringUtil.isPrintableAscii;
 
 /**
  * Represents a Person's address in the address book.
@@ -37,10 +37,12 @@ public class Address {
     * Returns true if a given string is a valid email.
     */
     public static boolean isValidAddress(String test) {
-        // printable ASCII AND not starting with whitespace AND not ending with a space
-        return test.length() <= MAX_LENGTH
-                && test.matches(PRINTABLE_ASCII_REGEX)
-                && test.matches(VALIDATION_REGEX)
+        // printable ASCII AND not starting with whitespace AND not ending with a space;
+        // space is the only whitespace in printable ASCII, so VALIDATION_REGEX reduces to the first check
+        return !test.isEmpty()
+                && test.length() <= MAX_LENGTH
+                && isPrintableAscii(test)
+                && test.charAt(0) != ' '
                 && !test.endsWith(" ");
     }
 
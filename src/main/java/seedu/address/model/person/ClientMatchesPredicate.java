@@ -12,50 +12,44 @@ import seedu.address.commons.util.ToStringBuilder;
  *
  * Defensive behaviors:
  * 1) Ignores blank keywords.
- * 2) Null-safe field access.
+ * 2) Keywords are lower-cased once on construction and compared against the
+ *    normalized fields precomputed by {@code Person}, so testing a person allocates nothing.
  */
 public final class ClientMatchesPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> searchKeys; // non-blank keywords, lower-cased
 
     /**
      * @param keywords list of search keywords (non-null). Caller ensures tokens are trimmed/lowercased.
      */
     public ClientMatchesPredicate(List<String> keywords) {
         this.keywords = Objects.requireNonNull(keywords);
+        this.searchKeys = keywords.stream()
+                .filter(kw -> !kw.isBlank())
+                .map(String::toLowerCase)
+                .toList();
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
         Objects.requireNonNull(person);
 
-        if (keywords.isEmpty()) {
-            return false;
-        }
-
-        final String name = safeLower(person.getName() == null ? null : person.getName().toString());
-        final String phone = safeLower(person.getPhone() == null ? null : person.getPhone().toString());
-        final String email = safeLower(person.getEmail() == null ? null : person.getEmail().toString());
+        final String name = person.getNormalizedName();
+        final String phone = person.getPhone().value;
+        final String email = person.getNormalizedEmail();
 
-        for (String kw : keywords) {
-            if (kw.isBlank()) {
-                continue;
-            }
-            final String k = kw.toLowerCase();
-            if (contains(name, k) || contains(phone, k) || contains(email, k)) {
+        for (String k : searchKeys) {
+            if (name.contains(k) || phone.contains(k) || email.contains(k)) {
                 return true;
             }
         }
         return false;
     }
 
-    private static boolean contains(String field, String kw) {
-        return field != null && !kw.isEmpty() && field.contains(kw);
-    }
-
-    private static String safeLower(String s) {
-        return s == null ? null : s.toLowerCase();
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
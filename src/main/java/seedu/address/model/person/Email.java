@@ -2,7 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.StringUtil.isAsciiLetterOrDigit;
 
 /**
  * Represents a Person's email in the address book.
@@ -49,12 +49,69 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Checks in a single pass, without backtracking, what {@link #VALIDATION_REGEX} matches; every allowed
+     * character is printable ASCII.
      */
     public static boolean isValidEmail(String test) {
+        if (test.length() > MAX_LENGTH) {
+            return false;
+        }
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, 0, at) && isValidDomain(test, at + 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code s} from {@code from} to {@code to} is runs of letters and digits separated by single
+     * special characters.
+     */
+    private static boolean isValidLocalPart(String s, int from, int to) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (isAsciiLetterOrDigit(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    private static boolean isValidDomain(String s, int from, int to) {
+        int labelStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || s.charAt(i) == '.') {
+                if (!isValidDomainLabel(s, labelStart, i, i == to)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return true;
+    }
 
-        return test.length() <= MAX_LENGTH
-                && test.matches(PRINTABLE_ASCII_REGEX)
-                && test.matches(VALIDATION_REGEX);
+    /**
+     * Returns true if {@code s} from {@code from} to {@code to} is runs of letters and digits separated by single
+     * hyphens. The last label must be at least two such domain parts in a row, so it also needs two adjacent
+     * letters or digits: "ab" and "a-bc" are accepted as last labels but "a-b" is not.
+     */
+    private static boolean isValidDomainLabel(String s, int from, int to, boolean isLast) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (isAsciiLetterOrDigit(c)) {
+                hasAdjacentAlphanumerics |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && c == '-') {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && (!isLast || hasAdjacentAlphanumerics);
     }
 
     @Override
@@ -2,7 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.StringUtil.isAsciiLetter;
 
 /**
  * Represents a Person's name in the address book.
@@ -42,11 +42,22 @@ public class Name {
 
     /**
      * Returns true if a given string is a valid name.
+     * Checks in a single pass what {@link #VALIDATION_REGEX} matches; every allowed character is printable ASCII.
      */
     public static boolean isValidName(String test) {
-        return test.length() <= MAX_LENGTH
-                && test.matches(PRINTABLE_ASCII_REGEX)
-                && test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || test.length() > MAX_LENGTH || test.charAt(0) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAllowedChar(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllowedChar(char c) {
+        return isAsciiLetter(c) || "(),/.@-' ".indexOf(c) >= 0;
     }
 
     @Override
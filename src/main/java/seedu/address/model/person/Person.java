@@ -1,14 +1,21 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Represents a Person in the address book.
@@ -26,25 +33,41 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final int[] tagIds; // sorted ids of interned tags, see TagRegistry
+
+    // Derived fields, computed once so that searches and lookups do not redo them per call
+    private final String normalizedName;
+    private final String normalizedEmail;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(name, phone, email, address, internTags(tags));
+    }
 
+    private Person(Name name, Phone phone, Email email, Address address, int[] tagIds) {
+        requireAllNonNull(name, phone, email, address);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tagIds = tagIds;
+        this.normalizedName = name.fullName.toLowerCase();
+        this.normalizedEmail = email.value.toLowerCase();
+        // use this method for custom fields hashing instead of implementing your own
+        this.hash = Objects.hash(name, phone, email, address, Arrays.hashCode(tagIds));
+    }
+
+    private static int[] internTags(Set<Tag> tags) {
+        requireNonNull(tags);
         if (tags.size() > MAX_TAGS_PER_PERSON) {
             throw new IllegalArgumentException(String.format(
                     "A person can have at most %d tags. You provided %d.",
                     MAX_TAGS_PER_PERSON, tags.size()));
         }
-
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        return TagRegistry.internAll(tags);
     }
 
     public Name getName() {
@@ -63,12 +86,53 @@ public class Person {
         return address;
     }
 
+    /**
+     * Returns the lower-cased name, used for case-insensitive identity checks and searches.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    /**
+     * Returns the lower-cased email, used for case-insensitive searches.
+     */
+    public String getNormalizedEmail() {
+        return normalizedEmail;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return new TagIdSet(tagIds);
+    }
+
+    /**
+     * Returns true if this person carries every tag in {@code requiredTagIds}.
+     * The ids must come from {@link TagRegistry} and be sorted in ascending order.
+     */
+    public boolean hasAllTagIds(int[] requiredTagIds) {
+        int j = 0;
+        for (int required : requiredTagIds) {
+            while (j < tagIds.length && tagIds[j] < required) {
+                j++;
+            }
+            if (j == tagIds.length || tagIds[j] != required) {
+                return false;
+            }
+            j++;
+        }
+        return true;
+    }
+
+    /**
+     * Passes the registry id of each of this person's tags to {@code action}, in ascending order.
+     */
+    public void forEachTagId(IntConsumer action) {
+        for (int tagId : tagIds) {
+            action.accept(tagId);
+        }
     }
 
     /**
@@ -81,7 +145,7 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().toString().equalsIgnoreCase(getName().toString())
+                && otherPerson.normalizedName.equals(normalizedName)
                 && otherPerson.getPhone().equals(getPhone());
     }
 
@@ -101,17 +165,17 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags);
+                && Arrays.equals(tagIds, otherPerson.tagIds);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hash;
     }
 
     @Override
@@ -121,7 +185,7 @@ public class Person {
                 + "\nPhone: " + phone
                 + "\nEmail: " + email
                 + "\nAddress: " + address
-                + "\nTags: " + tags.stream()
+                + "\nTags: " + getTags().stream()
                 .map(Tag::toString)
                 .collect(Collectors.joining(", "));
     }
@@ -136,11 +200,83 @@ public class Person {
         Phone copiedPhone = new Phone(phone.toString());
         Email copiedEmail = new Email(email.toString());
         Address copiedAddress = new Address(address.toString());
-        Set<Tag> copiedTags = new HashSet<>();
-        for (Tag tag : tags) {
-            copiedTags.add(new Tag(tag.tagName));
+        // interned tags are immutable and shared, so the id array can be shared as well
+        return new Person(copiedName, copiedPhone, copiedEmail, copiedAddress, tagIds);
+    }
+
+    /**
+     * Read-only set view over a sorted array of interned tag ids.
+     */
+    private static class TagIdSet extends AbstractSet<Tag> {
+        private final int[] ids;
+
+        TagIdSet(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Tag)) {
+                return false;
+            }
+            int id = TagRegistry.idOf((Tag) o);
+            return id != TagRegistry.UNKNOWN_ID && Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < ids.length;
+                }
+
+                @Override
+                public Tag next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return TagRegistry.get(ids[next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Tag> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Tag> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
         }
-        return new Person(copiedName, copiedPhone, copiedEmail, copiedAddress, copiedTags);
     }
 
 }
@@ -2,7 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -39,9 +39,16 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-
-        return test.matches(PRINTABLE_ASCII_REGEX)
-                && test.matches(VALIDATION_REGEX);
+        // single-pass equivalent of VALIDATION_REGEX, whose digits are all printable ASCII
+        if (test.length() < 3 || test.length() > 15) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
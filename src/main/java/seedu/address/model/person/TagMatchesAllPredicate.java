@@ -1,10 +1,12 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Tests whether a {@code Person} has <em>at least one</em> of a specified set of {@code Tag}s.
@@ -16,14 +18,45 @@ import seedu.address.model.tag.Tag;
 public class TagMatchesAllPredicate implements Predicate<Person> {
 
     private final Set<Tag> required;
+    // looked up once so that each test is a merge of two sorted id arrays; null while some tag is not registered
+    private int[] requiredIds;
+    private int registrySizeAtLookup;
 
+    /**
+     * Creates a predicate that matches persons carrying every tag in {@code required}.
+     */
     public TagMatchesAllPredicate(Set<Tag> required) {
         this.required = Objects.requireNonNull(required);
+        lookUpIds();
+    }
+
+    /**
+     * Looks up the registry ids of the required tags without interning them, so that tags typed into a filter do
+     * not grow the registry. A tag that is not registered yet is carried by no person, until a person with it is
+     * created and registers it.
+     */
+    private void lookUpIds() {
+        registrySizeAtLookup = TagRegistry.size();
+        int[] ids = new int[required.size()];
+        int i = 0;
+        for (Tag tag : required) {
+            int id = TagRegistry.idOf(tag);
+            if (id == TagRegistry.UNKNOWN_ID) {
+                requiredIds = null;
+                return;
+            }
+            ids[i++] = id;
+        }
+        Arrays.sort(ids);
+        requiredIds = Arrays.stream(ids).distinct().toArray();
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getTags().containsAll(required);
+        if (requiredIds == null && TagRegistry.size() != registrySizeAtLookup) {
+            lookUpIds(); // tags registered since the last lookup may include the missing ones
+        }
+        return requiredIds != null && person.hasAllTagIds(requiredIds);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index from every three-character substring (trigram) of a person's lower-cased name, phone and email
+ * to the persons containing it.
+ * A keyword of at least {@link #GRAM_LENGTH} characters can only occur in persons listed under each of its
+ * trigrams, so {@link #candidatesFor(String)} narrows a search down to one posting list. Candidates still
+ * have to be verified, as carrying every trigram of a keyword does not mean containing the keyword itself.
+ *
+ * The index does not observe the person list by itself; its owner must report every addition and removal.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Indexes the searchable fields of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (long gram : gramsOf(person)) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (long gram : gramsOf(person)) {
+            Set<Person> posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the searchable fields of {@code persons}.
+     */
+    public void reset(Collection<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name, phone or email may contain {@code keyword}, ignoring case.
+     * Returns {@code Optional.empty()} if {@code keyword} is too short to be looked up, in which case
+     * every person is a candidate.
+     */
+    public Optional<Set<Person>> candidatesFor(String keyword) {
+        requireNonNull(keyword);
+        String k = keyword.toLowerCase();
+        if (k.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        Set<Person> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= k.length(); i++) {
+            Set<Person> posting = postings.get(gramAt(k, i));
+            if (posting == null) {
+                return Optional.of(Set.of());
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return Optional.of(smallest);
+    }
+
+    private static Set<Long> gramsOf(Person person) {
+        Set<Long> grams = new HashSet<>();
+        addGrams(grams, person.getNormalizedName());
+        addGrams(grams, person.getPhone().value);
+        addGrams(grams, person.getNormalizedEmail());
+        return grams;
+    }
+
+    private static void addGrams(Set<Long> grams, String field) {
+        for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+            grams.add(gramAt(field, i));
+        }
+    }
+
+    /**
+     * Packs the trigram starting at {@code start} into a single {@code long}, 16 bits per character.
+     */
+    private static long gramAt(String s, int start) {
+        return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are backed by a hash index of {@link IdentityKey}s kept in sync with the observable list,
+ * so that {@link #contains(Person)} runs in constant time instead of scanning every person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,6 +33,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<IdentityKey> identities = new HashSet<>();
 
     public UniquePersonList() {}
 
@@ -54,7 +61,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identities.contains(IdentityKey.of(toCheck));
     }
 
     /**
@@ -67,6 +74,21 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identities.add(IdentityKey.of(toAdd));
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, notifying listeners of a single change.
+     * None of the persons may already exist in the list, and they must be unique among themselves.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<IdentityKey> newIdentities = indexIdentities(toAdd);
+        if (newIdentities == null || newIdentities.stream().anyMatch(identities::contains)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.addAll(toAdd);
+        identities.addAll(newIdentities);
     }
 
     /**
@@ -79,6 +101,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(index, toAdd);
+        identities.add(IdentityKey.of(toAdd));
     }
 
     /**
@@ -99,6 +122,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        identities.remove(IdentityKey.of(target));
+        identities.add(IdentityKey.of(editedPerson));
     }
 
     /**
@@ -110,11 +135,37 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identities.remove(IdentityKey.of(toRemove));
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list, notifying listeners of a single change.
+     * Every person must exist in the list.
+     */
+    public void removeAll(List<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removals = new HashSet<>(toRemove);
+        List<Person> remaining = new ArrayList<>(Math.max(0, internalList.size() - removals.size()));
+        for (Person person : internalList) {
+            if (!removals.contains(person)) {
+                remaining.add(person);
+            }
+        }
+        if (internalList.size() - remaining.size() != removals.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        internalList.setAll(remaining);
+        for (Person person : removals) {
+            identities.remove(IdentityKey.of(person));
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
     }
 
     /**
@@ -123,11 +174,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Set<IdentityKey> newIdentities = indexIdentities(persons);
+        if (newIdentities == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        identities.clear();
+        identities.addAll(newIdentities);
     }
 
     /**
@@ -146,7 +200,8 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        // iterate over the read-only view so that removals cannot bypass the identity index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -177,13 +232,30 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        return indexIdentities(persons) != null;
+    }
+
+    /**
+     * Returns the identity keys of {@code persons} in a single pass,
+     * or null if two of the persons share the same identity.
+     */
+    private static Set<IdentityKey> indexIdentities(List<Person> persons) {
+        Set<IdentityKey> keys = new HashSet<>(Math.max(16, persons.size() * 2));
+        for (Person person : persons) {
+            if (!keys.add(IdentityKey.of(person))) {
+                return null;
             }
         }
-        return true;
+        return keys;
+    }
+
+    /**
+     * Hashable form of the identity used by {@link Person#isSamePerson(Person)}:
+     * the case-folded name together with the phone number.
+     */
+    private record IdentityKey(String name, String phone) {
+        static IdentityKey of(Person person) {
+            return new IdentityKey(person.getNormalizedName(), person.getPhone().value);
+        }
     }
 }
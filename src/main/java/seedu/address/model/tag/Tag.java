@@ -2,7 +2,7 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+import static seedu.address.commons.util.StringUtil.isAsciiLetterOrDigit;
 
 /**
  * Represents a Tag in the address book.
@@ -18,6 +18,7 @@ public class Tag {
     public static final int MAX_LENGTH = 40;
 
     public final String tagName;
+    private final int hash;
 
     /**
      * Constructs a {@code Tag}.
@@ -29,15 +30,26 @@ public class Tag {
         String normalized = tagName.trim().toUpperCase();
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = normalized;
+        this.hash = normalized.toLowerCase().hashCode();
     }
 
     /**
      * Returns true if a given string is a valid tag names.
+     * Checks in a single pass what {@link #VALIDATION_REGEX} matches; every allowed character is printable ASCII.
      */
     public static boolean isValidTagName(String test) {
-        return test.length() <= MAX_LENGTH
-                && test.matches(VALIDATION_REGEX)
-                && test.matches(PRINTABLE_ASCII_REGEX);
+        int length = test.length();
+        if (length == 0 || length > MAX_LENGTH
+                || !isAsciiLetterOrDigit(test.charAt(0)) || !isAsciiLetterOrDigit(test.charAt(length - 1))) {
+            return false;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -57,7 +69,7 @@ public class Tag {
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
+        return hash;
     }
 
     /**
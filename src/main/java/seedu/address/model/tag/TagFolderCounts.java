@@ -0,0 +1,23 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+/**
+ * The counts the sidebar derives from an address book of {@code personCount} persons: the number of persons
+ * carrying each tag, and the count of each tag folder keyed by folder name.
+ * Lets the sidebar be restored without counting the tags of every person.
+ */
+public record TagFolderCounts(int personCount, Map<String, Integer> tagCounts, Map<String, Integer> folderCounts) {
+
+    /**
+     * Creates a {@code TagFolderCounts} holding copies of the given maps.
+     */
+    public TagFolderCounts {
+        requireNonNull(tagCounts);
+        requireNonNull(folderCounts);
+        tagCounts = Map.copyOf(tagCounts);
+        folderCounts = Map.copyOf(folderCounts);
+    }
+}
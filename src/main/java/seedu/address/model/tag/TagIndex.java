@@ -0,0 +1,116 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from tag names to the persons carrying them.
+ * Counting the persons that carry a single tag is a constant-time lookup, while counting the persons
+ * that carry several tags walks only the smallest of the matching posting lists.
+ *
+ * The index does not observe the person list by itself; its owner must report every addition and removal.
+ */
+public class TagIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Indexes every tag of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag.tagName, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of each of its tags.
+     * Tags that are no longer carried by anyone are dropped from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> posting = postings.get(tag.tagName);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(tag.tagName);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the tags of {@code persons}.
+     */
+    public void reset(Collection<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of persons carrying the tag named {@code tagName}.
+     */
+    public int count(String tagName) {
+        Set<Person> posting = postings.get(tagName);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * Returns the number of persons carrying every tag in {@code tagNames}.
+     * {@code tagNames} must not be empty.
+     */
+    public int countAll(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        assert !tagNames.isEmpty();
+
+        Set<Person> smallest = null;
+        for (String tagName : tagNames) {
+            Set<Person> posting = postings.get(tagName);
+            if (posting == null) {
+                return 0;
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        if (tagNames.size() == 1) {
+            return smallest.size();
+        }
+
+        int count = 0;
+        for (Person person : smallest) {
+            if (carriesAll(person, tagNames)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean carriesAll(Person person, Collection<String> tagNames) {
+        for (String tagName : tagNames) {
+            if (!postings.get(tagName).contains(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an unmodifiable view of the names of all tags carried by at least one person.
+     */
+    public Set<String> getTagNames() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns every distinct {@code Tag} once and assigns it a dense integer id.
+ * Ids are handed out in first-seen order starting from 0 and are never reused, so that persons can store
+ * their tags as small arrays of ids instead of sets of {@code Tag} objects.
+ *
+ * Tags are matched by {@link Tag#tagName}. The registry is shared by the whole application and is safe to use
+ * from several threads.
+ */
+public final class TagRegistry {
+
+    /** Id returned by {@link #idOf(Tag)} for tags that have never been interned. */
+    public static final int UNKNOWN_ID = -1;
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile Tag[] tagsById = new Tag[64];
+    private static volatile int size = 0;
+
+    private TagRegistry() {}
+
+    /**
+     * Returns the id of {@code tag}, interning it first if an equal tag has not been seen before.
+     */
+    public static int intern(Tag tag) {
+        requireNonNull(tag);
+        Integer id = ids.get(tag.tagName);
+        return id != null ? id : internNew(tag);
+    }
+
+    /**
+     * Interns every tag in {@code tags} and returns their distinct ids in ascending order.
+     */
+    public static int[] internAll(Collection<? extends Tag> tags) {
+        requireNonNull(tags);
+        int[] result = new int[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            result[i++] = intern(tag);
+        }
+        Arrays.sort(result);
+        return Arrays.stream(result).distinct().toArray();
+    }
+
+    private static synchronized int internNew(Tag tag) {
+        Integer existing = ids.get(tag.tagName);
+        if (existing != null) {
+            return existing;
+        }
+
+        int id = size;
+        Tag[] current = tagsById;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, id * 2);
+        }
+        // store the canonical instance as a plain Tag so that subclasses do not leak into person tag sets
+        current[id] = tag.getClass() == Tag.class ? tag : new Tag(tag.tagName);
+        tagsById = current; // volatile write publishes the new slot
+        ids.put(tag.tagName, id);
+        size++;
+        return id;
+    }
+
+    /**
+     * Returns the id of {@code tag}, or {@link #UNKNOWN_ID} if no equal tag has been interned.
+     */
+    public static int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = ids.get(tag.tagName);
+        return id == null ? UNKNOWN_ID : id;
+    }
+
+    /**
+     * Returns the number of tags interned so far. Every id handed out is smaller than this number.
+     */
+    public static int size() {
+        return size;
+    }
+
+    /**
+     * Returns the canonical tag with the given {@code id}.
+     * {@code id} must have been returned by {@link #intern(Tag)}.
+     */
+    public static Tag get(int id) {
+        return tagsById[id];
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The number of persons carrying each tag, counted in a single pass over a list of persons.
+ * Counts are kept in an array indexed by {@link TagRegistry} id, so tallying a person costs one array increment
+ * per tag it carries, regardless of how many tags are later looked up.
+ *
+ * Lists of at least {@link #PARALLEL_THRESHOLD} persons are split into chunks that are counted on the common
+ * fork-join pool and then summed.
+ */
+public class TagTally {
+
+    /** Smallest list size that is counted in parallel. */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final int CHUNK_SIZE = 1 << 13;
+
+    private final int[] counts;
+
+    private TagTally(int[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Counts the tags of every person in {@code persons}.
+     * {@code persons} should support fast random access and must not be modified while it is being counted.
+     */
+    public static TagTally of(List<Person> persons) {
+        requireNonNull(persons);
+        return persons.size() < PARALLEL_THRESHOLD ? sequential(persons) : parallel(persons);
+    }
+
+    static TagTally sequential(List<Person> persons) {
+        return new TagTally(countRange(persons, 0, persons.size(), TagRegistry.size()));
+    }
+
+    static TagTally parallel(List<Person> persons) {
+        int width = TagRegistry.size();
+        return new TagTally(ForkJoinPool.commonPool().invoke(new CountTask(persons, 0, persons.size(), width)));
+    }
+
+    /**
+     * Returns the number of persons carrying {@code tag}.
+     */
+    public int countOf(Tag tag) {
+        int id = TagRegistry.idOf(tag);
+        // tags interned after counting started cannot be carried by the counted persons
+        return id == TagRegistry.UNKNOWN_ID || id >= counts.length ? 0 : counts[id];
+    }
+
+    private static int[] countRange(List<Person> persons, int from, int to, int width) {
+        int[] counts = new int[width];
+        for (int i = from; i < to; i++) {
+            persons.get(i).forEachTagId(id -> {
+                if (id < width) {
+                    counts[id]++;
+                }
+            });
+        }
+        return counts;
+    }
+
+    /**
+     * Counts a range of persons, splitting it in half until it is no larger than {@link #CHUNK_SIZE}.
+     */
+    private static class CountTask extends RecursiveTask<int[]> {
+        private final List<Person> persons;
+        private final int from;
+        private final int to;
+        private final int width;
+
+        CountTask(List<Person> persons, int from, int to, int width) {
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+            this.width = width;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return countRange(persons, from, to, width);
+            }
+
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(persons, from, mid, width);
+            left.fork();
+            int[] counts = new CountTask(persons, mid, to, width).compute();
+            int[] leftCounts = left.join();
+            for (int i = 0; i < width; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+    }
+}
@@ -30,6 +30,31 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the persons in the data file, decoded as they are read from the returned source if this storage
+     * can do so, and all at once by {@link #readAddressBook()} otherwise.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if the data file could not be read, or any person decoded at once is invalid.
+     */
+    default Optional<PersonSource> readPersons() throws DataLoadingException {
+        return readAddressBook().map(addressBook -> PersonSource.of(addressBook.getPersonList()));
+    }
+
+    /**
+     * Returns true if {@link #readPersons()} decodes persons only as they are read from the returned source.
+     */
+    default boolean readsPersonsOnDemand() {
+        return false;
+    }
+
+    /**
+     * Records that the data file holds {@code addressBook}, e.g. because all of its persons have just been read,
+     * so that later saves can build on it. Does nothing by default.
+     */
+    default void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * After a header, the file holds a dictionary of every distinct tag followed by one column per field, so each
+ * column is read in a single pass with no field names to match and no reflection. Strings are stored as
+ * length-prefixed UTF-8 and each person's tags as indices into the dictionary:
+ * <pre>
+ * magic, format version, person count
+ * tag count, tag names
+ * names, phones, emails, addresses       (one column each, person count entries)
+ * tags                                   (per person: tag count, dictionary indices)
+ * </pre>
+ * Data read back is validated just like data read from a json file. Persons can also be read without decoding
+ * them up front, see {@link #readPersons()}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** File name extension of address book files in this format. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_CORRUPT_FILE = "Address book file is corrupt";
+
+    static final int MAGIC = 0x41424B42; // "ABKB"
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in this format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(readFully(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the persons in the data file, decoded and validated only as they are read from the returned source.
+     * Only the structure of the file is checked up front, which takes a single pass that decodes no person.
+     *
+     * @throws DataLoadingException if the file could not be read or is not in the expected format.
+     */
+    @Override
+    public Optional<PersonSource> readPersons() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new BinaryPersonTable(readFully(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public boolean readsPersonsOnDemand() {
+        return true;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is written to a temporary file first and then moved over {@code filePath}, so an interrupted
+     * save leaves the previous file intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            write(addressBook.getPersonList(), out);
+        }
+        FileUtil.moveReplacing(tempPath, filePath);
+    }
+
+    private static void write(List<Person> persons, DataOutputStream out) throws IOException {
+        Map<Tag, Integer> tagIndices = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndices.putIfAbsent(tag, tagIndices.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(persons.size());
+
+        out.writeInt(tagIndices.size());
+        for (Tag tag : tagIndices.keySet()) {
+            writeString(out, tag.tagName);
+        }
+
+        for (Person person : persons) {
+            writeString(out, person.getName().fullName);
+        }
+        for (Person person : persons) {
+            writeString(out, person.getPhone().value);
+        }
+        for (Person person : persons) {
+            writeString(out, person.getEmail().value);
+        }
+        for (Person person : persons) {
+            writeString(out, person.getAddress().value);
+        }
+        for (Person person : persons) {
+            Set<Tag> tags = person.getTags();
+            out.writeByte(tags.size());
+            for (Tag tag : tags) {
+                out.writeInt(tagIndices.get(tag));
+            }
+        }
+    }
+
+    private static AddressBook read(ByteBuffer buffer) throws IOException, IllegalValueException {
+        BinaryPersonTable table = new BinaryPersonTable(buffer);
+        ParallelPersonLoader<Integer> loader = new ParallelPersonLoader<>(table::getPerson);
+        for (int i = 0; i < table.size(); i++) {
+            loader.add(i);
+        }
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Returns the contents of {@code filePath}, read with as few system calls as the file system allows.
+     */
+    private static ByteBuffer readFully(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Address book file is too large: " + filePath);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // keep reading until the buffer is full
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+}
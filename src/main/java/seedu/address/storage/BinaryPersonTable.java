@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index over the persons in an address book file written by {@link BinaryAddressBookStorage}.
+ *
+ * Creating the table checks the structure of the file and records where each field of each person starts,
+ * without decoding any person. Persons are then decoded and validated one at a time, in any order, straight
+ * from the buffer holding the file.
+ */
+class BinaryPersonTable implements PersonSource {
+
+    private final ByteBuffer buffer;
+    private final Tag[] tagDictionary;
+
+    // offsets of each person's fields in the buffer, one array per column
+    private final int[] nameOffsets;
+    private final int[] phoneOffsets;
+    private final int[] emailOffsets;
+    private final int[] addressOffsets;
+    private final int[] tagOffsets;
+
+    /**
+     * Creates a table over the address book file held in {@code buffer}, from its position to its limit.
+     *
+     * @throws IOException if the file is not in the expected format or is cut short.
+     * @throws IllegalValueException if the file contains an invalid tag.
+     */
+    BinaryPersonTable(ByteBuffer buffer) throws IOException, IllegalValueException {
+        requireNonNull(buffer);
+        this.buffer = buffer;
+
+        int position = buffer.position();
+        if (readInt(position) != BinaryAddressBookStorage.MAGIC
+                || readInt(position + 4) != BinaryAddressBookStorage.FORMAT_VERSION) {
+            throw corrupt();
+        }
+        int personCount = readCount(position + 8);
+        position += 12;
+
+        tagDictionary = new Tag[readCount(position)];
+        position += 4;
+        for (int i = 0; i < tagDictionary.length; i++) {
+            String tagName = readString(position);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tagDictionary[i] = new Tag(tagName);
+            position = skipString(position);
+        }
+
+        nameOffsets = new int[personCount];
+        phoneOffsets = new int[personCount];
+        emailOffsets = new int[personCount];
+        addressOffsets = new int[personCount];
+        tagOffsets = new int[personCount];
+        position = indexStrings(position, nameOffsets);
+        position = indexStrings(position, phoneOffsets);
+        position = indexStrings(position, emailOffsets);
+        position = indexStrings(position, addressOffsets);
+        for (int i = 0; i < personCount; i++) {
+            tagOffsets[i] = position;
+            int tagCount = readUnsignedByte(position);
+            if (tagCount > Person.MAX_TAGS_PER_PERSON) {
+                throw corrupt();
+            }
+            position += 1 + 4 * tagCount;
+            checkInBounds(position);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the file.
+     */
+    @Override
+    public int size() {
+        return nameOffsets.length;
+    }
+
+    @Override
+    public List<Person> read(int from, int to) throws DataLoadingException {
+        List<Person> persons = new ArrayList<>(to - from);
+        try {
+            for (int i = from; i < to; i++) {
+                persons.add(getPerson(i));
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+        return persons;
+    }
+
+    /**
+     * Decodes and validates the person at {@code index} in the file.
+     *
+     * @throws IOException if the person refers to a tag that is not in the file.
+     * @throws IllegalValueException if any of the person's fields is invalid.
+     */
+    Person getPerson(int index) throws IOException, IllegalValueException {
+        String name = readString(nameOffsets[index]);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString(phoneOffsets[index]);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString(emailOffsets[index]);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String address = readString(addressOffsets[index]);
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        int position = tagOffsets[index];
+        int tagCount = readUnsignedByte(position);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = buffer.getInt(position + 1 + 4 * i);
+            if (tagIndex < 0 || tagIndex >= tagDictionary.length) {
+                throw corrupt();
+            }
+            tags.add(tagDictionary[tagIndex]);
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+    }
+
+    /**
+     * Records the offsets of {@code offsets.length} consecutive strings starting at {@code position}
+     * and returns the position after the last of them.
+     */
+    private int indexStrings(int position, int[] offsets) throws IOException {
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = position;
+            position = skipString(position);
+        }
+        return position;
+    }
+
+    private int skipString(int position) throws IOException {
+        int end = position + 4 + readCount(position);
+        checkInBounds(end);
+        return end;
+    }
+
+    private String readString(int position) throws IOException {
+        byte[] bytes = new byte[readCount(position)];
+        checkInBounds(position + 4 + bytes.length);
+        buffer.get(position + 4, bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads a count or length, which can never exceed the size of the file it describes.
+     */
+    private int readCount(int position) throws IOException {
+        int count = readInt(position);
+        if (count < 0 || count > buffer.limit()) {
+            throw corrupt();
+        }
+        return count;
+    }
+
+    private int readInt(int position) throws IOException {
+        checkInBounds(position + 4);
+        return buffer.getInt(position);
+    }
+
+    private int readUnsignedByte(int position) throws IOException {
+        checkInBounds(position + 1);
+        return Byte.toUnsignedInt(buffer.get(position));
+    }
+
+    private void checkInBounds(int end) throws IOException {
+        // an end past the limit may have overflowed, so compare without assuming it is positive
+        if (end < 0 || end > buffer.limit()) {
+            throw corrupt();
+        }
+    }
+
+    private static IOException corrupt() {
+        return new IOException(BinaryAddressBookStorage.MESSAGE_CORRUPT_FILE);
+    }
+
+}
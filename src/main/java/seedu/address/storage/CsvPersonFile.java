@@ -0,0 +1,282 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads persons from a CSV file, e.g. one exported by a spreadsheet or a mailing tool, and writes persons in
+ * the same format.
+ *
+ * The first record is a header naming the columns, in any order: {@code name}, {@code phone}, {@code email}
+ * and {@code address} are required, {@code tags} is optional and holds the tags of a person separated by
+ * spaces, and any other column is ignored. Fields may be quoted as described in RFC 4180, so they can contain
+ * commas, quotes and line breaks.
+ *
+ * Persons are validated with the same rules as the json data file, and in parallel as the file is read,
+ * see {@link ParallelPersonLoader}.
+ */
+public class CsvPersonFile {
+
+    /** File name extension of CSV files. */
+    public static final String FILE_EXTENSION = ".csv";
+
+    public static final String MESSAGE_MISSING_COLUMN = "CSV header has no '%1$s' column.";
+    public static final String MESSAGE_INVALID_RECORD = "Line %1$d: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+
+    static final List<String> COLUMNS = List.of("name", "phone", "email", "address", "tags");
+
+    // as recommended by RFC 4180, which spreadsheets expect
+    private static final String RECORD_SEPARATOR = "\r\n";
+
+    private static final Logger logger = LogsCenter.getLogger(CsvPersonFile.class);
+
+    /**
+     * Returns true if {@code filePath} names a CSV file.
+     */
+    public static boolean isCsvFile(Path filePath) {
+        return filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the persons in the CSV file at {@code filePath} into an {@code AddressBook}.
+     *
+     * @throws DataLoadingException if the file could not be read, or a record is not a valid person.
+     */
+    public static AddressBook read(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try (BufferedReader in = Files.newBufferedReader(filePath, UTF_8)) {
+            return read(in);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from csv file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the persons in CSV format from {@code in} into an {@code AddressBook}.
+     */
+    static AddressBook read(Reader in) throws IOException, IllegalValueException {
+        RecordReader records = new RecordReader(in);
+        List<String> header = records.next();
+        if (header == null) {
+            return new AddressBook();
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // spreadsheets often start the file with a byte order mark
+            columns.putIfAbsent(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        // the index of each of the COLUMNS in a record, or -1 for a missing optional column
+        int[] indexes = new int[COLUMNS.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            String column = COLUMNS.get(i);
+            if (!columns.containsKey(column) && !column.equals("tags")) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+            indexes[i] = columns.getOrDefault(column, -1);
+        }
+
+        ParallelPersonLoader<Record> loader = new ParallelPersonLoader<>(record -> record.toModelType(indexes));
+        while (true) {
+            int line = records.getLine();
+            List<String> fields = records.next();
+            if (fields == null) {
+                break;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue; // blank line
+            }
+            if (fields.size() != header.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, line,
+                        String.format(MESSAGE_WRONG_FIELD_COUNT, header.size(), fields.size())));
+            }
+            loader.add(new Record(line, fields));
+        }
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Writes the header naming the {@link #COLUMNS} to {@code out}.
+     */
+    static void writeHeader(Writer out) throws IOException {
+        out.write(String.join(",", COLUMNS));
+        out.write(RECORD_SEPARATOR);
+    }
+
+    /**
+     * Writes {@code person} to {@code out} as one record in the order of the {@link #COLUMNS}, so that it is
+     * read back as the same person.
+     */
+    static void writePerson(Person person, Writer out) throws IOException {
+        writeField(person.getName().fullName, out);
+        out.write(',');
+        writeField(person.getPhone().value, out);
+        out.write(',');
+        writeField(person.getEmail().value, out);
+        out.write(',');
+        writeField(person.getAddress().value, out);
+        out.write(',');
+        boolean isFirstTag = true;
+        for (Tag tag : person.getTags()) {
+            if (!isFirstTag) {
+                out.write(' ');
+            }
+            // tags are letters, digits and hyphens, so they never need quoting
+            out.write(tag.tagName);
+            isFirstTag = false;
+        }
+        out.write(RECORD_SEPARATOR);
+    }
+
+    // writes the field straight to out, quoting it only if it contains a separator or a quote
+    private static void writeField(String field, Writer out) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+                && field.indexOf('\r') < 0) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    /**
+     * The fields of one CSV record, together with the line it starts on.
+     */
+    private record Record(int line, List<String> fields) {
+
+        Person toModelType(int[] indexes) throws IllegalValueException {
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            String tagField = indexes[4] < 0 ? "" : fields.get(indexes[4]).trim();
+            if (!tagField.isEmpty()) {
+                for (String tagName : tagField.split("\\s+")) {
+                    tags.add(new JsonAdaptedTag(tagName));
+                }
+            }
+
+            JsonAdaptedPerson person = new JsonAdaptedPerson(fields.get(indexes[0]).trim(),
+                    fields.get(indexes[1]).trim(), fields.get(indexes[2]).trim(), fields.get(indexes[3]).trim(), tags);
+            try {
+                return person.toModelType();
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, line, ive.getMessage()), ive);
+            }
+        }
+    }
+
+    /**
+     * Splits CSV text into records of fields, one character at a time.
+     */
+    private static class RecordReader {
+
+        private final Reader in;
+        private int line = 1;
+        private int peeked = -2;
+
+        RecordReader(Reader in) {
+            this.in = in;
+        }
+
+        /**
+         * Returns the line the next record starts on.
+         */
+        int getLine() {
+            return line;
+        }
+
+        /**
+         * Returns the fields of the next record, or null at the end of the input.
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (; ; c = read()) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("Unterminated quoted field at the end of the file");
+                    } else if (c == '"' && peek() == '"') {
+                        field.append('"');
+                        read();
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return in.read();
+        }
+
+        private int peek() throws IOException {
+            if (peeked == -2) {
+                peeked = in.read();
+            }
+            return peeked;
+        }
+    }
+}
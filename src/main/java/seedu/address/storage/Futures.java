@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Waits for storage work run on other threads, rethrowing its failures as the exceptions storage callers expect.
+ */
+class Futures {
+
+    /**
+     * Waits for {@code future} and returns its result.
+     * A failure of the task is rethrown as it was thrown, and an interrupt as an {@code InterruptedIOException}
+     * with {@code interruptedMessage}.
+     */
+    static <T> T join(Future<T> future, String interruptedMessage) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(interruptedMessage);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            } else if (cause instanceof IllegalValueException ive) {
+                throw ive;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
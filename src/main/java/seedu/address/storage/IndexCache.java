@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.tag.TagFolderCounts;
+
+/**
+ * A side-car file next to the address book data that caches the counts derived from it, so that a warm start
+ * can restore the sidebar without counting the tags of every person.
+ *
+ * The cache records a checksum of the data files it was derived from: the data file together with its journal,
+ * or every file of a shard directory. A cache whose checksum does not match the current data files is ignored,
+ * as is a cache that cannot be read; it is rebuilt the next time it is saved.
+ */
+public class IndexCache {
+
+    /** Suffix appended to the name of the data file to name its cache. */
+    public static final String FILE_SUFFIX = ".index";
+
+    private static final Logger logger = LogsCenter.getLogger(IndexCache.class);
+
+    private final Path dataPath;
+    private final Path cachePath;
+
+    /**
+     * Creates an {@code IndexCache} for the address book data at {@code dataPath}.
+     */
+    public IndexCache(Path dataPath) {
+        requireNonNull(dataPath);
+        this.dataPath = dataPath;
+        this.cachePath = dataPath.resolveSibling(dataPath.getFileName() + FILE_SUFFIX);
+    }
+
+    public Path getCacheFilePath() {
+        return cachePath;
+    }
+
+    /**
+     * Returns the cached counts if they were derived from the current data files.
+     * Returns {@code Optional.empty()} if there is no such cache.
+     */
+    public Optional<TagFolderCounts> read() {
+        try {
+            Optional<JsonSerializableIndexCache> cache =
+                    JsonUtil.readJsonFile(cachePath, JsonSerializableIndexCache.class);
+            if (cache.isEmpty()) {
+                return Optional.empty();
+            }
+            if (cache.get().getDataChecksum() != checksumOf(dataPath)) {
+                logger.info("Ignoring index cache " + cachePath + " as the data has changed since it was written");
+                return Optional.empty();
+            }
+            return Optional.of(cache.get().toModelType());
+        } catch (DataLoadingException | IOException | IllegalValueException e) {
+            logger.warning("Ignoring index cache " + cachePath + " that could not be read: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Saves {@code counts}, which must have been derived from the current data files.
+     */
+    public void save(TagFolderCounts counts) throws IOException {
+        requireNonNull(counts);
+        JsonUtil.saveJsonFile(new JsonSerializableIndexCache(checksumOf(dataPath), counts), cachePath);
+    }
+
+    /**
+     * Returns the checksum of the address book data at {@code dataPath}.
+     */
+    static long checksumOf(Path dataPath) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(dataPath)) {
+            try (Stream<Path> entries = Files.list(dataPath)) {
+                entries.filter(Files::isRegularFile).sorted().forEach(files::add);
+            }
+        } else {
+            files.add(dataPath);
+            files.add(dataPath.resolveSibling(dataPath.getFileName() + JournaledAddressBookStorage.LOG_FILE_SUFFIX));
+        }
+
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[1 << 16];
+        for (Path file : files) {
+            if (!Files.exists(file)) {
+                continue;
+            }
+            // the name separates the files, so that moving bytes from one file to the next changes the checksum
+            crc.update(file.getFileName().toString().getBytes(UTF_8));
+            try (InputStream in = Files.newInputStream(file)) {
+                for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                    crc.update(buffer, 0, n);
+                }
+            }
+        }
+        return crc.getValue();
+    }
+}
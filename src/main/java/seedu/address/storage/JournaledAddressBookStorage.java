@@ -0,0 +1,330 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Stores an address book as a snapshot written by another {@code AddressBookStorage}, followed by an append-only
+ * log of the changes made since that snapshot.
+ *
+ * Saving compares the address book against what has already been persisted and appends one compact JSON line per
+ * person removed or added, so that a save costs I/O proportional to the change rather than to the whole book.
+ * Saving an address book that has not changed since the last save writes nothing. Once the log grows larger than
+ * the book itself, or a change cannot be expressed as removals and insertions, the snapshot is rewritten and the
+ * log is started afresh.
+ *
+ * The log begins with the checksum of the snapshot it applies to, so a log left behind by an interrupted
+ * compaction is recognised and ignored when reading.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Suffix appended to the name of the snapshot file to name its log. */
+    public static final String LOG_FILE_SUFFIX = ".log";
+
+    /** Smallest number of log records that triggers a compaction, regardless of the size of the book. */
+    public static final int MIN_COMPACTION_RECORDS = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path logPath;
+
+    // what the snapshot and log on disk add up to, or null if they are not known to match anything in memory
+    private ReadOnlyAddressBook persisted;
+    private int logRecords;
+    private boolean isLogTorn;
+    private boolean isAwaitingPersons; // persons read on demand, not yet all loaded
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot in {@code snapshotStorage}
+     * and its log next to the snapshot file.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        Path snapshotPath = snapshotStorage.getAddressBookFilePath();
+        this.logPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getLogFilePath() {
+        return logPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and, if {@code filePath} is the file of this storage,
+     * replays the log over it.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        persisted = null;
+        isAwaitingPersons = false;
+        if (!Files.exists(logPath)) {
+            snapshot.ifPresent(addressBook -> persisted = addressBook.snapshot());
+            return snapshot;
+        }
+
+        try {
+            List<Person> persons = new ArrayList<>(
+                    snapshot.isPresent() ? snapshot.get().getPersonList() : List.of());
+            int replayed = replayLog(persons);
+            if (replayed < 0) {
+                // the log belongs to an older snapshot; the next save rewrites both
+                return snapshot;
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            // appending after a torn record would corrupt the log, so a torn log is compacted on the next save
+            persisted = isLogTorn ? null : addressBook.snapshot();
+            logRecords = replayed;
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading mutation log " + logPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    /**
+     * Returns the persons of the snapshot as the snapshot storage reads them on demand, if it can and the log holds
+     * nothing to replay over them. Otherwise reads the whole address book, see {@link #readAddressBook()}.
+     * Persons read on demand are not known here until {@link #markAddressBookSaved} is given all of them, so a
+     * save before that writes a full snapshot.
+     */
+    @Override
+    public synchronized Optional<PersonSource> readPersons() throws DataLoadingException {
+        if (!snapshotStorage.readsPersonsOnDemand() || !isLogEmpty()) {
+            return AddressBookStorage.super.readPersons();
+        }
+        persisted = null;
+        logRecords = 0;
+        isLogTorn = false;
+        isAwaitingPersons = true;
+        return snapshotStorage.readPersons();
+    }
+
+    /**
+     * Lets saves append to the log again once all the persons read on demand are in {@code addressBook}.
+     */
+    @Override
+    public synchronized void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        if (isAwaitingPersons) {
+            persisted = addressBook.snapshot();
+            isAwaitingPersons = false;
+        }
+    }
+
+    /**
+     * Returns true if there is no log, or the log holds only its base and that base is the current snapshot, so
+     * that records can be appended to it. Returns false if the log cannot be read, leaving the error to be
+     * reported by {@link #readAddressBook()}.
+     */
+    private boolean isLogEmpty() {
+        if (!Files.exists(logPath)) {
+            return true;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(logPath, UTF_8)) {
+            List<String> lines = reader.lines().filter(line -> !line.isBlank()).limit(2).toList();
+            return lines.size() == 1
+                    && JsonUtil.fromJsonString(lines.get(0), JsonAdaptedMutation.class).getChecksum()
+                            == checksumOf(getAddressBookFilePath());
+        } catch (IOException | UncheckedIOException | IllegalValueException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies the records of the log to {@code persons} and returns the number of records applied,
+     * or -1 if the log does not belong to the current snapshot.
+     */
+    private int replayLog(List<Person> persons) throws IOException, IllegalValueException {
+        isLogTorn = false;
+        List<String> lines;
+        try (BufferedReader reader = Files.newBufferedReader(logPath, UTF_8)) {
+            lines = reader.lines().filter(line -> !line.isBlank()).toList();
+        }
+        if (lines.isEmpty()) {
+            return -1;
+        }
+
+        JsonAdaptedMutation base = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedMutation.class);
+        if (base.getChecksum() != checksumOf(getAddressBookFilePath())) {
+            logger.warning("Ignoring mutation log " + logPath + " as it does not match the current snapshot");
+            return -1;
+        }
+
+        int applied = 0;
+        for (Iterator<String> it = lines.listIterator(1); it.hasNext();) {
+            String line = it.next();
+            JsonAdaptedMutation record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedMutation.class);
+            } catch (IOException e) {
+                if (it.hasNext()) {
+                    throw e;
+                }
+                // only the last append can be cut short by a crash; the records before it are intact
+                logger.warning("Ignoring incomplete last record of mutation log " + logPath);
+                isLogTorn = true;
+                break;
+            }
+            record.applyTo(persons);
+            applied++;
+        }
+        return applied;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since the last save to the log, or writes a full snapshot
+     * to {@code filePath} if it is not the file of this storage.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook current = addressBook.snapshot();
+        if (current == persisted) {
+            return;
+        }
+
+        List<JsonAdaptedMutation> records = persisted == null ? null
+                : diff(persisted.getPersonList(), current.getPersonList());
+        if (records == null || logRecords + records.size() > compactionThreshold(current)) {
+            compact(current);
+            return;
+        }
+
+        if (records.isEmpty()) {
+            persisted = current;
+            return;
+        }
+
+        List<String> lines = new ArrayList<>(records.size() + 1);
+        if (!Files.exists(logPath)) {
+            lines.add(JsonUtil.toCompactJsonString(JsonAdaptedMutation.base(checksumOf(getAddressBookFilePath()))));
+        }
+        for (JsonAdaptedMutation record : records) {
+            lines.add(JsonUtil.toCompactJsonString(record));
+        }
+        Files.write(logPath, lines, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        logRecords += records.size();
+        persisted = current;
+    }
+
+    private static int compactionThreshold(ReadOnlyAddressBook addressBook) {
+        return Math.max(MIN_COMPACTION_RECORDS, addressBook.getPersonList().size());
+    }
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and starts a new log for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path snapshotPath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, snapshotPath);
+        String base = JsonUtil.toCompactJsonString(JsonAdaptedMutation.base(checksumOf(snapshotPath)));
+        Files.write(logPath, List.of(base), UTF_8);
+        logRecords = 0;
+        persisted = addressBook;
+        isAwaitingPersons = false;
+    }
+
+    /**
+     * Returns the records that turn {@code from} into {@code to}: removals from the highest index down,
+     * then insertions from the lowest index up.
+     * Returns null if the persons kept in both lists are not in the same relative order.
+     */
+    static List<JsonAdaptedMutation> diff(List<Person> from, List<Person> to) {
+        Set<Person> fromSet = new HashSet<>(from);
+        Set<Person> toSet = new HashSet<>(to);
+
+        List<JsonAdaptedMutation> records = new ArrayList<>();
+        List<Person> kept = new ArrayList<>();
+        for (int i = from.size() - 1; i >= 0; i--) {
+            Person person = from.get(i);
+            if (toSet.contains(person)) {
+                kept.add(person);
+            } else {
+                records.add(JsonAdaptedMutation.remove(i));
+            }
+        }
+
+        int k = kept.size() - 1; // kept is in reverse order
+        for (int i = 0; i < to.size(); i++) {
+            Person person = to.get(i);
+            if (!fromSet.contains(person)) {
+                records.add(JsonAdaptedMutation.add(i, person));
+            } else if (!kept.get(k--).equals(person)) {
+                return null;
+            }
+        }
+        return records;
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        if (!FileUtil.isFileExists(file)) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                crc.update(buffer, 0, n);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one record in the mutation log of {@link JournaledAddressBookStorage}.
+ * A log starts with a {@code base} record naming the snapshot it applies to, followed by {@code remove} and
+ * {@code add} records that each change one position of the person list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedMutation {
+
+    public static final String OP_BASE = "base";
+    public static final String OP_ADD = "add";
+    public static final String OP_REMOVE = "remove";
+
+    public static final String MESSAGE_INVALID_RECORD = "Mutation log contains an invalid record.";
+
+    private final String op;
+    private final Integer index;
+    private final Long checksum;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedMutation} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedMutation(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("checksum") Long checksum, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.checksum = checksum;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record stating that the following records apply to the snapshot with the given checksum.
+     */
+    public static JsonAdaptedMutation base(long checksum) {
+        return new JsonAdaptedMutation(OP_BASE, null, checksum, null);
+    }
+
+    /**
+     * Returns a record inserting {@code person} at {@code index}.
+     */
+    public static JsonAdaptedMutation add(int index, Person person) {
+        return new JsonAdaptedMutation(OP_ADD, index, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record removing the person at {@code index}.
+     */
+    public static JsonAdaptedMutation remove(int index) {
+        return new JsonAdaptedMutation(OP_REMOVE, index, null, null);
+    }
+
+    public boolean isBase() {
+        return OP_BASE.equals(op);
+    }
+
+    /**
+     * Returns the snapshot checksum of a {@code base} record.
+     *
+     * @throws IllegalValueException if this is not a valid {@code base} record.
+     */
+    public long getChecksum() throws IllegalValueException {
+        if (!isBase() || checksum == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        return checksum;
+    }
+
+    /**
+     * Applies this {@code add} or {@code remove} record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is malformed, does not fit {@code persons},
+     *     or holds an invalid person.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OP_ADD.equals(op) && index != null && person != null && index >= 0 && index <= persons.size()) {
+            persons.add(index, person.toModelType());
+        } else if (OP_REMOVE.equals(op) && index != null && index >= 0 && index < persons.size()) {
+            persons.remove((int) index);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+}
@@ -2,11 +2,22 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -15,7 +26,7 @@ import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
- * A class to access AddressBook data stored as a json file on the hard disk.
+ * A class to access AddressBook data stored as a json file on the hard disk, optionally compressed.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
@@ -45,14 +56,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        // stream persons straight into the model instead of holding the whole file in memory
+        try (BufferedInputStream file = new BufferedInputStream(Files.newInputStream(filePath));
+                InputStream in = StreamCompression.wrapForReading(file);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +81,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are streamed to the file in compact form, so the document is never held in memory as a whole.
+     * The stream is compressed if {@code filePath} names a compressed file, see {@link StreamCompression}.
+     * The data is written to a temporary file first and then moved over {@code filePath}, so an interrupted
+     * save leaves the previous file intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +92,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream out = StreamCompression.wrapForWriting(filePath,
+                        new BufferedOutputStream(Channels.newOutputStream(channel)));
+                JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.writeModelType(addressBook, generator);
+        }
+
+        FileUtil.moveReplacing(tempPath, filePath);
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -42,19 +47,64 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Large address books are validated and converted in parallel, see {@link ParallelPersonLoader}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        ParallelPersonLoader<JsonAdaptedPerson> loader = new ParallelPersonLoader<>(JsonAdaptedPerson::toModelType);
+        persons.forEach(loader::add);
+        try {
+            return loader.toAddressBook();
+        } catch (IOException e) {
+            // json records are converted without any I/O, so this can only be an interruption
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes {@code source} in this format to {@code generator}, one person at a time.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book saved in this format from {@code parser} into the model's {@code AddressBook} object.
+     * Unlike binding the whole file to this class, persons are handed to a {@link ParallelPersonLoader} as they
+     * are read, so validating and converting them overlaps with reading the rest of the file.
+     *
+     * @throws IOException if the input is not valid JSON or does not have the shape of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        ParallelPersonLoader<JsonAdaptedPerson> loader = new ParallelPersonLoader<>(JsonAdaptedPerson::toModelType);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!field.equals("persons") || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a list of persons");
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                loader.add(parser.readValueAs(JsonAdaptedPerson.class));
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+        return loader.toAddressBook();
     }
 
 }
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.TagFolderCounts;
+
+/**
+ * Jackson-friendly version of the index cache file: the {@link TagFolderCounts} of an address book,
+ * together with the checksum of the data files they were counted from.
+ */
+class JsonSerializableIndexCache {
+
+    public static final String MESSAGE_INVALID_CACHE = "Index cache has invalid counts.";
+
+    private final long dataChecksum;
+    private final int personCount;
+    private final Map<String, Integer> tagCounts = new HashMap<>();
+    private final Map<String, Integer> folderCounts = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableIndexCache} with the given cache details.
+     */
+    @JsonCreator
+    public JsonSerializableIndexCache(@JsonProperty("dataChecksum") long dataChecksum,
+            @JsonProperty("personCount") int personCount,
+            @JsonProperty("tagCounts") Map<String, Integer> tagCounts,
+            @JsonProperty("folderCounts") Map<String, Integer> folderCounts) {
+        this.dataChecksum = dataChecksum;
+        this.personCount = personCount;
+        if (tagCounts != null) {
+            this.tagCounts.putAll(tagCounts);
+        }
+        if (folderCounts != null) {
+            this.folderCounts.putAll(folderCounts);
+        }
+    }
+
+    /**
+     * Converts the given counts, taken from data files with checksum {@code dataChecksum}, for Jackson use.
+     */
+    public JsonSerializableIndexCache(long dataChecksum, TagFolderCounts source) {
+        this(dataChecksum, source.personCount(), source.tagCounts(), source.folderCounts());
+    }
+
+    /**
+     * Returns the checksum of the data files the counts were taken from.
+     */
+    public long getDataChecksum() {
+        return dataChecksum;
+    }
+
+    /**
+     * Converts this cache into the model's {@code TagFolderCounts}.
+     *
+     * @throws IllegalValueException if any count is missing or negative.
+     */
+    public TagFolderCounts toModelType() throws IllegalValueException {
+        if (personCount < 0 || !areValidCounts(tagCounts) || !areValidCounts(folderCounts)) {
+            throw new IllegalValueException(MESSAGE_INVALID_CACHE);
+        }
+        return new TagFolderCounts(personCount, tagCounts, folderCounts);
+    }
+
+    private boolean areValidCounts(Map<String, Integer> counts) {
+        return counts.entrySet().stream().allMatch(entry -> entry.getKey() != null
+                && entry.getValue() != null && entry.getValue() >= 0 && entry.getValue() <= personCount);
+    }
+}
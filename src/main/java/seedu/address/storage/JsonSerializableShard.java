@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one shard file of {@link ShardedAddressBookStorage}: the persons that hash to the
+ * shard, each with the rank that places it in the order of the whole address book.
+ */
+class JsonSerializableShard {
+
+    public static final String MESSAGE_INVALID_SHARD = "Shard file has a rank missing for some person.";
+
+    private final int shardCount;
+    private final List<Long> ranks = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given shard details.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("shardCount") int shardCount,
+            @JsonProperty("ranks") List<Long> ranks, @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.shardCount = shardCount;
+        if (ranks != null) {
+            this.ranks.addAll(ranks);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given persons of one shard into this class for Jackson use.
+     */
+    public JsonSerializableShard(int shardCount, List<RankedPerson> source) {
+        this.shardCount = shardCount;
+        for (RankedPerson rankedPerson : source) {
+            ranks.add(rankedPerson.rank());
+            persons.add(new JsonAdaptedPerson(rankedPerson.person()));
+        }
+    }
+
+    /**
+     * Returns the number of shards the address book was split into when this shard was written.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Converts the persons of this shard into the model's {@code Person} objects, with their ranks.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<RankedPerson> toModelType() throws IllegalValueException {
+        if (ranks.size() != persons.size() || ranks.contains(null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_SHARD);
+        }
+        List<RankedPerson> rankedPersons = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            rankedPersons.add(new RankedPerson(ranks.get(i), persons.get(i).toModelType()));
+        }
+        return rankedPersons;
+    }
+
+    /**
+     * A person together with its position in the order of the whole address book.
+     * Persons are ordered by ascending rank; ranks leave gaps so that a person can be inserted without
+     * changing the rank of any other.
+     */
+    record RankedPerson(long rank, Person person) {}
+}
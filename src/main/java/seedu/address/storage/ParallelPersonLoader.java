@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts stored records into persons and collects them into an {@code AddressBook}, in the order the records
+ * were added.
+ *
+ * Records are grouped into chunks of {@link #CHUNK_SIZE}, and every full chunk is validated and converted on the
+ * common fork-join pool while further records are still being added, so reading the file overlaps with checking
+ * what has been read so far. Books smaller than one chunk are converted on the calling thread.
+ *
+ * Chunks are collected in order and each person is checked against the persons before it in a single hashed
+ * pass, so the error reported for an invalid file is the one for the first offending record, as if the records
+ * had been converted one by one.
+ *
+ * @param <T> the type of the stored records.
+ */
+class ParallelPersonLoader<T> {
+
+    /** Number of records validated and converted together as one task. */
+    static final int CHUNK_SIZE = 1 << 10;
+
+    /**
+     * Converts one stored record into a person, validating it first.
+     */
+    @FunctionalInterface
+    interface Converter<T> {
+        Person convert(T record) throws IOException, IllegalValueException;
+    }
+
+    private final Converter<T> converter;
+    private final List<Future<List<Person>>> chunks = new ArrayList<>();
+    private List<T> pending = new ArrayList<>();
+
+    ParallelPersonLoader(Converter<T> converter) {
+        requireNonNull(converter);
+        this.converter = converter;
+    }
+
+    /**
+     * Adds {@code record} after the records added so far.
+     */
+    void add(T record) {
+        pending.add(record);
+        if (pending.size() == CHUNK_SIZE) {
+            List<T> chunk = pending;
+            // a FutureTask hands back the exact exception thrown, which the pool's own tasks would wrap
+            FutureTask<List<Person>> task = new FutureTask<>(() -> convertAll(chunk));
+            ForkJoinPool.commonPool().execute(task);
+            chunks.add(task);
+            pending = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBook} of the persons converted from all the records added.
+     *
+     * @throws IOException if a record could not be converted.
+     * @throws IllegalValueException if a record violates a data constraint or two records are the same person.
+     */
+    AddressBook toAddressBook() throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            for (Future<List<Person>> chunk : chunks) {
+                addAll(addressBook, join(chunk));
+            }
+            addAll(addressBook, convertAll(pending));
+        } finally {
+            // after a failure, the chunks still running can no longer change the outcome
+            chunks.forEach(chunk -> chunk.cancel(false));
+        }
+        return addressBook;
+    }
+
+    private List<Person> convertAll(List<T> records) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>(records.size());
+        for (T record : records) {
+            persons.add(converter.convert(record));
+        }
+        return persons;
+    }
+
+    private static void addAll(AddressBook addressBook, List<Person> persons) throws IllegalValueException {
+        for (Person person : persons) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
+    private static List<Person> join(Future<List<Person>> chunk) throws IOException, IllegalValueException {
+        return Futures.join(chunk, "Interrupted while loading persons");
+    }
+}
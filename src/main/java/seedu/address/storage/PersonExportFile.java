@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons to a file for other tools to read: CSV for {@value CsvPersonFile#FILE_EXTENSION} files, see
+ * {@link CsvPersonFile}, and JSON Lines for {@value #JSON_LINES_EXTENSION} files, one json person per line.
+ *
+ * Persons are written one at a time straight to a buffered file, so exporting needs no memory beyond the
+ * given list, however many persons it holds.
+ */
+public class PersonExportFile {
+
+    /** File name extension of JSON Lines files. */
+    public static final String JSON_LINES_EXTENSION = ".jsonl";
+
+    /** Number of persons written between two progress reports. */
+    public static final int PROGRESS_INTERVAL = 10_000;
+
+    /**
+     * Writes {@code persons} to {@code filePath}, as CSV if it names a CSV file and as JSON Lines otherwise,
+     * replacing any file there.
+     * {@code progress} is given the number of persons written so far every {@link #PROGRESS_INTERVAL} persons.
+     * The persons are written to a temporary file first and then moved over {@code filePath}, so a failed export
+     * leaves any previous file intact.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public static void write(List<Person> persons, Path filePath, IntConsumer progress) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        requireNonNull(progress);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try {
+            if (CsvPersonFile.isCsvFile(filePath)) {
+                try (BufferedWriter out = Files.newBufferedWriter(tempPath, UTF_8)) {
+                    writeCsv(persons, out, progress);
+                }
+            } else {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+                        JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                    writeJsonLines(persons, generator, progress);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+
+        FileUtil.moveReplacing(tempPath, filePath);
+    }
+
+    private static void writeCsv(List<Person> persons, Writer out, IntConsumer progress) throws IOException {
+        CsvPersonFile.writeHeader(out);
+        int written = 0;
+        for (Person person : persons) {
+            CsvPersonFile.writePerson(person, out);
+            if (++written % PROGRESS_INTERVAL == 0) {
+                progress.accept(written);
+            }
+        }
+    }
+
+    private static void writeJsonLines(List<Person> persons, JsonGenerator generator, IntConsumer progress)
+            throws IOException {
+        // each person ends its own line instead of being separated from the next by a space
+        generator.setRootValueSeparator(null);
+        int written = 0;
+        for (Person person : persons) {
+            // the fields of JsonAdaptedPerson, written directly rather than through one adapter per person
+            generator.writeStartObject();
+            generator.writeStringField("name", person.getName().fullName);
+            generator.writeStringField("phone", person.getPhone().value);
+            generator.writeStringField("email", person.getEmail().value);
+            generator.writeStringField("address", person.getAddress().value);
+            generator.writeArrayFieldStart("tags");
+            for (Tag tag : person.getTags()) {
+                generator.writeString(tag.tagName);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++written % PROGRESS_INTERVAL == 0) {
+                progress.accept(written);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons in a data file, which a storage may decode only as they are read, so that the first persons of a
+ * large file can be shown before the rest of it is decoded.
+ *
+ * Persons are checked as they are read: reading fails if any of the persons read is invalid. Duplicates across
+ * separate reads are left to the address book the persons are added to.
+ */
+public interface PersonSource {
+
+    /**
+     * Returns the number of persons.
+     */
+    int size();
+
+    /**
+     * Returns the persons from index {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @throws DataLoadingException if any of those persons is invalid.
+     */
+    List<Person> read(int from, int to) throws DataLoadingException;
+
+    /**
+     * Returns a source of {@code persons}, which have already been decoded and checked.
+     */
+    static PersonSource of(List<Person> persons) {
+        List<Person> decoded = List.copyOf(persons);
+        return new PersonSource() {
+            @Override
+            public int size() {
+                return decoded.size();
+            }
+
+            @Override
+            public List<Person> read(int from, int to) {
+                return decoded.subList(from, to);
+            }
+        };
+    }
+}
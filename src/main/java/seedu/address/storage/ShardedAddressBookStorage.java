@@ -0,0 +1,398 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonSerializableShard.RankedPerson;
+
+/**
+ * A class to access AddressBook data stored as a directory of json shard files on the hard disk.
+ *
+ * Each person is stored in the shard picked by the hash of its identity, together with a rank that places it in
+ * the order of the whole address book. Ranks leave gaps, so inserting or removing a person does not change the rank
+ * of any other. Saving compares the address book against what has already been persisted and rewrites, in
+ * parallel, only the shards holding a person that was added or removed; editing a person counts as both.
+ * Reordering persons, or running out of room between two ranks, rewrites every shard.
+ *
+ * Loading reads all shards concurrently. Each shard file is replaced atomically, but a save that touches several
+ * shards is not: a crash part-way through can leave some of them at the previous save.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** File name extension of directories that hold an address book in this format. */
+    public static final String DIRECTORY_EXTENSION = ".shards";
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("shard-(\\d+)\\.json");
+    private static final long RANK_GAP = 1L << 20;
+    private static final long FIRST_RANK_FLOOR = Long.MIN_VALUE / 2;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directoryPath;
+    private final int shardCount;
+
+    // the rank of every person in the shard files, or null if the files are not known to match anything in memory
+    private Map<Person, Long> persistedRanks;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that keeps its shards in {@code directoryPath}
+     * and splits new address books into {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, int shardCount) {
+        requireNonNull(directoryPath);
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.directoryPath = directoryPath;
+        this.shardCount = shardCount;
+    }
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a directory in this format.
+     */
+    public static boolean isShardDirectory(Path filePath) {
+        return filePath.getFileName().toString().endsWith(DIRECTORY_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the path of the file holding shard {@code shard} in {@code directoryPath}.
+     */
+    static Path getShardFilePath(Path directoryPath, int shard) {
+        return directoryPath.resolve("shard-" + shard + ".json");
+    }
+
+    /**
+     * Returns the shard that {@code person} is stored in, out of {@code shardCount} shards.
+     * Uses the same identity as {@link Person#isSamePerson(Person)}, with string hashes that are stable across runs.
+     */
+    static int shardOf(Person person, int shardCount) {
+        return Math.floorMod(Objects.hash(person.getNormalizedName(), person.getPhone().value), shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the shard directory. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnDirectory = filePath.equals(directoryPath);
+        if (isOwnDirectory) {
+            persistedRanks = null;
+        }
+
+        try {
+            Map<Integer, Path> shardFiles = listShardFiles(filePath);
+            if (shardFiles.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<Callable<LoadedShard>> reads = new ArrayList<>();
+            for (Path shardFile : shardFiles.values()) {
+                reads.add(() -> readShard(shardFile));
+            }
+            List<LoadedShard> shards = runAll(reads);
+
+            // a layout this storage did not write itself is loaded, and then rewritten in full on the next save
+            boolean isOwnLayout = shardFiles.keySet().stream().allMatch(shard -> shard < shardCount);
+            List<RankedPerson> rankedPersons = new ArrayList<>();
+            int i = 0;
+            for (Map.Entry<Integer, Path> entry : shardFiles.entrySet()) {
+                LoadedShard shard = shards.get(i++);
+                isOwnLayout &= shard.shardCount() == shardCount;
+                for (RankedPerson rankedPerson : shard.persons()) {
+                    isOwnLayout &= shardOf(rankedPerson.person(), shardCount) == entry.getKey();
+                    rankedPersons.add(rankedPerson);
+                }
+            }
+            rankedPersons.sort(Comparator.comparingLong(RankedPerson::rank));
+
+            AddressBook addressBook = new AddressBook();
+            Map<Person, Long> ranks = new HashMap<>();
+            for (RankedPerson rankedPerson : rankedPersons) {
+                if (addressBook.hasPerson(rankedPerson.person())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(rankedPerson.person());
+                isOwnLayout &= ranks.put(rankedPerson.person(), rankedPerson.rank()) == null;
+            }
+            if (isOwnDirectory && isOwnLayout) {
+                persistedRanks = ranks;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from shard directory " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the shard files in {@code directory}, ordered by shard number.
+     */
+    private static Map<Integer, Path> listShardFiles(Path directory) throws IOException {
+        Map<Integer, Path> shardFiles = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            return shardFiles;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = SHARD_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    shardFiles.put(Integer.parseInt(matcher.group(1)), file);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Shard number out of range in " + directory, e);
+        }
+        return shardFiles;
+    }
+
+    private static LoadedShard readShard(Path shardFile) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(shardFile));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            JsonSerializableShard shard = parser.readValueAs(JsonSerializableShard.class);
+            return new LoadedShard(shard.getShardCount(), shard.toModelType());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Rewrites the shards of {@code filePath} that changed since the last save, or every shard if {@code filePath}
+     * is not the directory of this storage.
+     *
+     * @param filePath location of the shard directory. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        List<Person> persons = addressBook.getPersonList();
+
+        boolean[] dirty = new boolean[shardCount];
+        long[] ranks = filePath.equals(directoryPath) && persistedRanks != null
+                ? rankChanges(persistedRanks, persons, dirty)
+                : null;
+        boolean isFullRewrite = ranks == null;
+        if (isFullRewrite) {
+            ranks = new long[persons.size()];
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = i * RANK_GAP;
+            }
+            Arrays.fill(dirty, true);
+        }
+
+        List<List<RankedPerson>> shards = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(dirty[shard] ? new ArrayList<>() : null);
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            List<RankedPerson> shard = shards.get(shardOf(persons.get(i), shardCount));
+            if (shard != null) {
+                shard.add(new RankedPerson(ranks[i], persons.get(i)));
+            }
+        }
+
+        if (filePath.equals(directoryPath)) {
+            persistedRanks = null; // unknown until every shard has been written
+        }
+        writeShards(filePath, shards);
+        if (isFullRewrite) {
+            deleteShardsFrom(filePath, shardCount);
+        }
+        if (filePath.equals(directoryPath)) {
+            Map<Person, Long> newRanks = new HashMap<>(persons.size() * 2);
+            for (int i = 0; i < persons.size(); i++) {
+                newRanks.put(persons.get(i), ranks[i]);
+            }
+            persistedRanks = newRanks;
+        }
+    }
+
+    /**
+     * Returns the rank of each person in {@code persons}, keeping the rank of every person already in
+     * {@code oldRanks}, and marks the shards of the persons added and removed as {@code dirty}.
+     * Returns null if every person must be ranked afresh: when kept persons changed order, or when there is no room
+     * left between the ranks of two kept persons.
+     */
+    static long[] rankChanges(Map<Person, Long> oldRanks, List<Person> persons, boolean[] dirty) {
+        int shardCount = dirty.length;
+        Set<Person> kept = new HashSet<>(persons);
+        for (Person person : oldRanks.keySet()) {
+            if (!kept.contains(person)) {
+                dirty[shardOf(person, shardCount)] = true;
+            }
+        }
+
+        long[] ranks = new long[persons.size()];
+        long previous = FIRST_RANK_FLOOR;
+        int i = 0;
+        while (i < persons.size()) {
+            Long rank = oldRanks.get(persons.get(i));
+            if (rank != null) {
+                if (rank <= previous) {
+                    return null;
+                }
+                ranks[i++] = rank;
+                previous = rank;
+                continue;
+            }
+
+            // spread the run of added persons evenly between the kept persons around it
+            int end = i;
+            while (end < persons.size() && !oldRanks.containsKey(persons.get(end))) {
+                end++;
+            }
+            long next = end < persons.size() ? oldRanks.get(persons.get(end)) : previous + (end - i + 1) * RANK_GAP;
+            long step = (next - previous) / (end - i + 1);
+            if (step == 0) {
+                return null;
+            }
+            for (; i < end; i++) {
+                previous += step;
+                ranks[i] = previous;
+                dirty[shardOf(persons.get(i), shardCount)] = true;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Writes each non-null shard in {@code shards} in parallel. All shards are written to temporary files before
+     * any of them replaces its shard file, to keep the window in which the shards disagree small.
+     */
+    private void writeShards(Path directory, List<List<RankedPerson>> shards) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> shardPaths = new ArrayList<>();
+        List<Callable<Path>> writes = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            List<RankedPerson> persons = shards.get(shard);
+            if (persons != null) {
+                Path shardPath = getShardFilePath(directory, shard);
+                shardPaths.add(shardPath);
+                writes.add(() -> writeShard(shardPath, new JsonSerializableShard(shardCount, persons)));
+            }
+        }
+        logger.fine("Rewriting " + writes.size() + " of " + shardCount + " shards in " + directory);
+
+        List<Path> tempPaths;
+        try {
+            tempPaths = runAll(writes);
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException("Writing a shard does not validate anything", e);
+        }
+        for (int i = 0; i < tempPaths.size(); i++) {
+            FileUtil.moveReplacing(tempPaths.get(i), shardPaths.get(i));
+        }
+    }
+
+    /**
+     * Writes {@code shard} to a temporary file next to {@code shardPath} and returns the path of that file.
+     */
+    private static Path writeShard(Path shardPath, JsonSerializableShard shard) throws IOException {
+        Path tempPath = shardPath.resolveSibling(shardPath.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+                JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeObject(shard);
+        }
+        return tempPath;
+    }
+
+    /**
+     * Deletes the shard files numbered {@code firstShard} and above, left behind by a layout with more shards.
+     */
+    private static void deleteShardsFrom(Path directory, int firstShard) throws IOException {
+        for (Map.Entry<Integer, Path> entry : listShardFiles(directory).entrySet()) {
+            if (entry.getKey() >= firstShard) {
+                Files.delete(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * The persons read from one shard file, and the number of shards the file says the address book was split into.
+     */
+    private record LoadedShard(int shardCount, List<RankedPerson> persons) {}
+
+    /**
+     * Runs {@code tasks} on the common fork-join pool and returns their results in order.
+     */
+    private static <T> List<T> runAll(List<Callable<T>> tasks) throws IOException, IllegalValueException {
+        List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            FutureTask<T> future = new FutureTask<>(task);
+            ForkJoinPool.commonPool().execute(future);
+            futures.add(future);
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (FutureTask<T> future : futures) {
+                results.add(Futures.join(future, "Interrupted while accessing shards"));
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+        return results;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -26,4 +27,16 @@ public class SidebarFolderPrefs {
     public List<String> getQueryTags() {
         return queryTags;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof SidebarFolderPrefs
+                && Objects.equals(queryTags, ((SidebarFolderPrefs) other).queryTags));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(queryTags);
+    }
 }
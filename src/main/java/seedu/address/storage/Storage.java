@@ -26,7 +26,22 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
+    @Override
+    Optional<PersonSource> readPersons() throws DataLoadingException;
+
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Records that the data file holds {@code addressBook}, e.g. because it was just read from it, so that it is
+     * not written again until it changes.
+     */
+    @Override
+    void markAddressBookSaved(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns true if the data file holds {@code addressBook}, as it was last saved or marked saved unchanged.
+     */
+    boolean isAddressBookSaved(ReadOnlyAddressBook addressBook);
+
 }
@@ -20,6 +20,10 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // versions of the data last written successfully, so that unchanged data is not written again
+    private volatile long savedAddressBookVersion = -1;
+    private long savedUserPrefsVersion = -1;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -42,7 +46,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        long version = userPrefs.getVersion();
+        if (version == savedUserPrefsVersion) {
+            logger.fine("User prefs unchanged since last save, skipping write");
+            return;
+        }
         userPrefsStorage.saveUserPrefs(userPrefs);
+        savedUserPrefsVersion = version;
     }
 
 
@@ -64,9 +74,32 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<PersonSource> readPersons() throws DataLoadingException {
+        logger.fine("Attempting to read persons from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readPersons();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        long version = addressBook.getVersion();
+        if (version == savedAddressBookVersion) {
+            logger.fine("Address book unchanged since last save, skipping write");
+            return;
+        }
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        savedAddressBookVersion = version;
+    }
+
+    @Override
+    public void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.markAddressBookSaved(addressBook);
+        savedAddressBookVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public boolean isAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        return addressBook.getVersion() == savedAddressBookVersion;
     }
 
     @Override
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Optional Deflate (zlib) compression of the streams that data files are written to and read from.
+ *
+ * Files whose name ends in {@link #FILE_EXTENSION} are written compressed. Files are read according to their
+ * contents rather than their name, so a plain file is still read correctly after compression is turned on,
+ * and is compressed on its next save.
+ */
+public class StreamCompression {
+
+    /** File name extension of compressed data files. */
+    public static final String FILE_EXTENSION = ".deflate";
+
+    // first byte of a zlib stream using Deflate with the default window size; never the first byte of a json file
+    private static final int ZLIB_DEFLATE_HEADER = 0x78;
+
+    /**
+     * Returns true if the file at {@code filePath} should be written compressed.
+     */
+    public static boolean isCompressedFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns a stream that writes to {@code out}, compressing the data if {@code filePath} should be compressed.
+     * Closing the returned stream finishes the compressed data and closes {@code out}.
+     */
+    public static OutputStream wrapForWriting(Path filePath, OutputStream out) {
+        return isCompressedFile(filePath) ? new DeflaterOutputStream(out) : out;
+    }
+
+    /**
+     * Returns a stream that reads from {@code in}, decompressing the data if it starts with a zlib header.
+     * Closing the returned stream closes {@code in}.
+     */
+    public static InputStream wrapForReading(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        boolean isCompressed = first == ZLIB_DEFLATE_HEADER && second != -1 && ((first << 8) | second) % 31 == 0;
+        return isCompressed ? new InflaterInputStream(in) : in;
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Saves data to a {@code Storage} on a background thread, so that callers never wait for the disk.
+ *
+ * Only the latest submitted data is kept while a save is pending, so a burst of submissions made faster than
+ * the disk can keep up with is written once. Submitted data must not be modified afterwards; callers should
+ * submit snapshots.
+ *
+ * Save failures are passed to the failure handler on the background thread, unexpected errors wrapped in an
+ * {@code IOException}.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PendingSave> pending = new AtomicReference<>();
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} and reports failures to
+     * {@code failureHandler}.
+     */
+    public WriteBehindSaver(Storage storage, Consumer<IOException> failureHandler) {
+        requireNonNull(storage);
+        requireNonNull(failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} and {@code userPrefs} to be saved, replacing any data still waiting to be saved.
+     */
+    public void submit(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(addressBook);
+        requireNonNull(userPrefs);
+        if (pending.getAndSet(new PendingSave(addressBook, userPrefs)) == null) {
+            // no save was waiting, so nothing else will pick this one up
+            executor.execute(this::savePending);
+        }
+    }
+
+    private void savePending() {
+        PendingSave save = pending.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(save.addressBook());
+            storage.saveUserPrefs(save.userPrefs());
+        } catch (IOException e) {
+            logger.warning("Could not save data in the background: " + e);
+            failureHandler.accept(e);
+        } catch (RuntimeException e) {
+            // e.g. data that could not be serialized; the executor would otherwise drop it silently
+            logger.severe("Could not save data in the background: " + e);
+            failureHandler.accept(new IOException(e));
+        }
+    }
+
+    /**
+     * Blocks until all data submitted so far has been saved or has failed to save.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Saves all data submitted so far and stops the background thread.
+     * No data can be submitted afterwards.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.severe("Timed out waiting for pending data to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingSave(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {}
+}
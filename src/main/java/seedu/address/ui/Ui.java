@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Tells the user that saving data failed. May be called from any thread. */
+    void showSaveFailure(String message);
+
+    /** Shows the progress of loading or exporting the data. May be called from any thread. */
+    void showLoadingStatus(String message);
+
 }
@@ -24,6 +24,7 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private String loadingStatus; // kept until the main window is shown
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
@@ -43,6 +44,9 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); // This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            if (loadingStatus != null) {
+                mainWindow.showLoadingStatus(loadingStatus);
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +54,25 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveFailure(String message) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showFeedback(message);
+            }
+        });
+    }
+
+    @Override
+    public void showLoadingStatus(String message) {
+        Platform.runLater(() -> {
+            loadingStatus = message;
+            if (mainWindow != null) {
+                mainWindow.showLoadingStatus(message);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,291 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.IndexCache;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final int PERSON_COUNT = AddressBookLoader.BATCH_SIZE * 2 + 200;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private final List<String> statuses = new ArrayList<>();
+    private final Model model = new ModelManager();
+    private Path addressBookPath;
+    private StorageManager storage;
+    private AddressBookLoader loader;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookPath = temporaryFolder.resolve("addressBook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        loader = new AddressBookLoader(storage, new IndexCache(addressBookPath), model, uiTasks::add,
+                statuses::add);
+    }
+
+    private static AddressBook getLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            String suffix = "" + (char) ('a' + i % 26) + (char) ('a' + i / 26 % 26) + (char) ('a' + i / 676);
+            addressBook.addPerson(new PersonBuilder().withName("Person " + suffix)
+                    .withPhone(String.valueOf(90000000 + i)).withTags(i % 2 == 0 ? "even" : "odd").build());
+        }
+        return addressBook;
+    }
+
+    private void runNextUiTask() {
+        uiTasks.remove().run();
+    }
+
+    @Test
+    public void load_largeAddressBook_publishedInBatches() throws Exception {
+        AddressBook saved = getLargeAddressBook();
+        storage.saveAddressBook(saved);
+
+        loader.load();
+        runNextUiTask();
+        assertEquals(0, model.getSize());
+
+        runNextUiTask();
+        assertEquals(AddressBookLoader.BATCH_SIZE, model.getSize());
+        String firstBatchLoaded =
+                String.format(AddressBookLoader.MESSAGE_LOADING, AddressBookLoader.BATCH_SIZE, PERSON_COUNT);
+        assertEquals(List.of(AddressBookLoader.MESSAGE_READING, firstBatchLoaded), statuses);
+        assertEquals(AddressBookLoader.BATCH_SIZE / 2,
+                model.getActiveTagFolders().stream().filter(f -> f.getName().equalsIgnoreCase("even")).findFirst().get()
+                        .getCount());
+        assertFalse(loader.isDone());
+
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        assertTrue(loader.isDone());
+        assertEquals(saved, model.getAddressBook());
+        assertEquals(String.format(AddressBookLoader.MESSAGE_LOADED, PERSON_COUNT), statuses.get(statuses.size() - 1));
+        assertEquals(2, model.getActiveTagFolders().size());
+        assertEquals(PERSON_COUNT / 2, model.getActiveTagFolders().get(0).getCount());
+    }
+
+    @Test
+    public void load_matchingIndexCache_sidebarRestored() throws Exception {
+        AddressBook saved = getLargeAddressBook();
+        storage.saveAddressBook(saved);
+        loader.load();
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        loader.saveIndexCache();
+
+        Model warmModel = new ModelManager();
+        AddressBookLoader warmLoader = new AddressBookLoader(storage, new IndexCache(addressBookPath), warmModel,
+                uiTasks::add, statuses::add);
+        warmLoader.load();
+        runNextUiTask();
+        runNextUiTask();
+        // counted for the whole book although only the first batch has been published
+        assertEquals(AddressBookLoader.BATCH_SIZE, warmModel.getSize());
+        assertEquals(PERSON_COUNT / 2, warmModel.getActiveTagFolders().get(0).getCount());
+
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        assertEquals(saved, warmModel.getAddressBook());
+        assertEquals(model.getActiveTagFolders().toString(), warmModel.getActiveTagFolders().toString());
+    }
+
+    @Test
+    public void saveIndexCache_loadingNotDone_nothingSaved() throws Exception {
+        storage.saveAddressBook(getLargeAddressBook());
+        loader.load();
+        runNextUiTask();
+        runNextUiTask();
+        loader.saveIndexCache();
+        assertFalse(Files.exists(new IndexCache(addressBookPath).getCacheFilePath()));
+    }
+
+    @Test
+    public void saveIndexCache_unchangedData_dataFileNotRewritten() throws Exception {
+        storage.saveAddressBook(getLargeAddressBook());
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        StorageManager restartedStorage = new StorageManager(new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                written.add(addressBook);
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookLoader restartedLoader = new AddressBookLoader(restartedStorage, new IndexCache(addressBookPath),
+                model, uiTasks::add, statuses::add);
+
+        restartedLoader.load();
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        restartedStorage.saveAddressBook(model.getAddressBook());
+        restartedLoader.saveIndexCache();
+        assertEquals(List.of(), written);
+        assertTrue(new IndexCache(addressBookPath).read().isPresent());
+    }
+
+    @Test
+    public void saveIndexCache_missingFile_nothingWritten() throws Exception {
+        loader.load();
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        loader.saveIndexCache();
+        assertFalse(Files.exists(addressBookPath));
+        assertFalse(Files.exists(new IndexCache(addressBookPath).getCacheFilePath()));
+    }
+
+    @Test
+    public void saveIndexCache_invalidFile_nothingWritten() throws Exception {
+        Files.writeString(addressBookPath, "not json");
+        loader.load();
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        loader.saveIndexCache();
+        assertEquals("not json", Files.readString(addressBookPath));
+        assertFalse(Files.exists(new IndexCache(addressBookPath).getCacheFilePath()));
+    }
+
+    @Test
+    public void load_binaryFileWithInvalidLastBatch_emptyAddressBook() throws Exception {
+        Path binaryPath = temporaryFolder.resolve("addressBook.bin");
+        StorageManager binaryStorage = new StorageManager(new BinaryAddressBookStorage(binaryPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBook saved = getLargeAddressBook();
+        binaryStorage.saveAddressBook(saved);
+        // an invalid name in the last batch is only found when that batch is decoded
+        byte[] bytes = Files.readAllBytes(binaryPath);
+        String lastName = saved.getPersonList().get(PERSON_COUNT - 1).getName().fullName;
+        String file = new String(bytes, StandardCharsets.ISO_8859_1);
+        bytes[file.indexOf(lastName)] = '9';
+        Files.write(binaryPath, bytes);
+        AddressBookLoader binaryLoader = new AddressBookLoader(binaryStorage, new IndexCache(binaryPath), model,
+                uiTasks::add, statuses::add);
+
+        binaryLoader.load();
+        runNextUiTask();
+        runNextUiTask();
+        assertEquals(AddressBookLoader.BATCH_SIZE, model.getSize());
+
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        assertTrue(binaryLoader.isDone());
+        assertEquals(0, model.getSize());
+        assertEquals(AddressBookLoader.MESSAGE_LOAD_FAILED, statuses.get(statuses.size() - 1));
+        assertFalse(binaryStorage.isAddressBookSaved(model.getAddressBook()));
+    }
+
+    @Test
+    public void load_missingFile_sampleDataLoaded() {
+        loader.load();
+        runNextUiTask();
+        runNextUiTask();
+        assertTrue(uiTasks.isEmpty());
+        assertTrue(loader.isDone());
+        assertEquals(new AddressBook(SampleDataUtil.getSampleAddressBook()), model.getAddressBook());
+    }
+
+    @Test
+    public void load_invalidFile_emptyAddressBook() throws Exception {
+        Files.writeString(addressBookPath, "not json");
+        loader.load();
+        runNextUiTask();
+        runNextUiTask();
+        assertTrue(loader.isDone());
+        assertEquals(0, model.getSize());
+        assertEquals(List.of(AddressBookLoader.MESSAGE_READING, AddressBookLoader.MESSAGE_LOAD_FAILED), statuses);
+    }
+
+    @Test
+    public void execute_whileLoading_mutableCommandsRefusedAndNothingSaved() throws Exception {
+        AddressBook saved = getLargeAddressBook();
+        storage.saveAddressBook(saved);
+        String savedFile = Files.readString(addressBookPath);
+        Logic logic = new LogicManager(model, storage, null, loader);
+
+        loader.load();
+        runNextUiTask();
+        runNextUiTask();
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () -> logic.execute(addCommand));
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(savedFile, Files.readString(addressBookPath));
+
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        logic.execute(addCommand);
+        assertEquals(PERSON_COUNT + 1, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void execute_whileLoading_findShowsLaterMatchesAndWholeBookCommandsRefused() throws Exception {
+        AddressBook saved = getLargeAddressBook();
+        storage.saveAddressBook(saved);
+        Person lastBatchPerson = saved.getPersonList().get(PERSON_COUNT - 100);
+        String keyword = lastBatchPerson.getName().fullName.substring("Person ".length());
+        Logic logic = new LogicManager(model, storage, null, loader);
+
+        loader.load();
+        runNextUiTask();
+        runNextUiTask();
+        logic.execute(FindCommand.COMMAND_WORD + " " + keyword);
+        assertEquals(List.of(), model.getFilteredPersonList());
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () ->
+                logic.execute(ExportCommand.COMMAND_WORD + " " + temporaryFolder.resolve("export.csv")));
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () ->
+                logic.execute(StatsCommand.COMMAND_WORD));
+
+        while (!uiTasks.isEmpty()) {
+            runNextUiTask();
+        }
+        assertEquals(List.of(lastBatchPerson), model.getFilteredPersonList());
+    }
+}
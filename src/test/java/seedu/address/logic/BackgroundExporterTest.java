@@ -0,0 +1,69 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonExportFile;
+
+public class BackgroundExporterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private final List<String> statuses = new ArrayList<>();
+    private final BackgroundExporter exporter = new BackgroundExporter(backgroundTasks::add, uiTasks::add,
+            statuses::add);
+
+    private void runUiTasks() {
+        while (!uiTasks.isEmpty()) {
+            uiTasks.remove().run();
+        }
+    }
+
+    @Test
+    public void export_runsInBackgroundAndReportsProgress() throws Exception {
+        Path filePath = temporaryFolder.resolve("clients.jsonl");
+        int total = PersonExportFile.PROGRESS_INTERVAL + 1;
+        List<Person> persons = Collections.nCopies(total, ALICE);
+
+        exporter.export(persons, filePath);
+        assertTrue(Files.notExists(filePath));
+        assertTrue(statuses.isEmpty());
+
+        backgroundTasks.remove().run();
+        assertTrue(statuses.isEmpty());
+        runUiTasks();
+        assertEquals(List.of(String.format(BackgroundExporter.MESSAGE_EXPORTING, 0, total),
+                String.format(BackgroundExporter.MESSAGE_EXPORTING, PersonExportFile.PROGRESS_INTERVAL, total),
+                String.format(BackgroundExporter.MESSAGE_EXPORTED, total, filePath)), statuses);
+        assertEquals(total, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void export_failure_reported() throws Exception {
+        Path filePath = temporaryFolder.resolve("clients.csv");
+        Files.createDirectory(filePath);
+
+        exporter.export(getTypicalPersons(), filePath);
+        backgroundTasks.remove().run();
+        runUiTasks();
+        String lastStatus = statuses.get(statuses.size() - 1);
+        assertTrue(lastStatus.startsWith(String.format(BackgroundExporter.MESSAGE_EXPORT_FAILED, filePath, "")));
+    }
+}
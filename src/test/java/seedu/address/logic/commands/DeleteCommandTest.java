@@ -137,6 +137,22 @@ public class DeleteCommandTest {
         assertTrue(found);
     }
 
+    @Test
+    public void redo_afterUndo_deletesSamePersonAgain() throws Exception {
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(INDEX_SECOND_PERSON);
+        CommandResult initialResult = deleteCommand.execute(model);
+
+        // undo puts the person back at its original position
+        deleteCommand.undo(model);
+        assertEquals(personToDelete, model.getAddressBook().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased()));
+
+        // redo no longer depends on what is displayed at the target index
+        model.updateFilteredPersonList(p -> false);
+        assertEquals(initialResult, deleteCommand.redo(model));
+        assertFalse(model.hasPerson(personToDelete));
+    }
+
     @Test
     public void undoCommand_failed_whenNoPersonDeleted() {
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BackgroundExporter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CsvPersonFile;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private final BackgroundExporter exporter = new BackgroundExporter(backgroundTasks::add, Runnable::run,
+            unused -> { });
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_filteredList_exportsDisplayedPersons() throws Exception {
+        Path filePath = testFolder.resolve("clients.csv");
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+
+        assertCommandSuccess(new ExportCommand(filePath, false, exporter), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), expectedModel);
+
+        // changes made while the export is pending do not change what is exported
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        backgroundTasks.forEach(Runnable::run);
+        assertEquals(List.of(BENSON), CsvPersonFile.read(filePath).getPersonList());
+    }
+
+    @Test
+    public void execute_wholeBook_exportsAllPersons() throws Exception {
+        Path filePath = testFolder.resolve("clients.csv");
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+
+        new ExportCommand(filePath, true, exporter).execute(model);
+        model.deletePerson(BENSON);
+        backgroundTasks.forEach(Runnable::run);
+        assertEquals(getTypicalAddressBook().getPersonList(), CsvPersonFile.read(filePath).getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("first.csv"), false, exporter);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Path.of("first.csv"), false,
+                new BackgroundExporter(Runnable::run, Runnable::run, unused -> { }))));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("first.csv"), true, exporter)));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("second.csv"), false, exporter)));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.CsvPersonFile;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final String CSV = "name,phone,email,address,tags\n"
+            + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends\n"
+            + "Hoon Meier,84882424,stefan@example.com,little india,\n"
+            + "Ida Mueller,84882131,hans@example.com,chicago ave,\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_csvFile_importsNewPersonsOnly() throws Exception {
+        Path filePath = testFolder.resolve("clients.csv");
+        Files.writeString(filePath, CSV);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath)
+                        + String.format(ImportCommand.MESSAGE_SKIPPED, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_jsonFile_importsAllPersons() throws Exception {
+        Path filePath = testFolder.resolve("clients.json");
+        AddressBook imported = new AddressBook();
+        imported.addPerson(AMY);
+        new JsonAddressBookStorage(filePath).saveAddressBook(imported);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath), expectedModel);
+        assertTrue(model.hasTagFolder("FRIEND"));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_invalidPerson_importsNothing() throws Exception {
+        Path filePath = testFolder.resolve("clients.csv");
+        Files.writeString(filePath, CSV + "Carl Kurz,9535a,heinz@example.com,wall street,\n");
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_INVALID_FILE,
+                filePath, String.format(CsvPersonFile.MESSAGE_INVALID_RECORD, 5, Phone.MESSAGE_CONSTRAINTS)));
+    }
+
+    @Test
+    public void undo_afterImport_removesWholeImport() throws Exception {
+        Path filePath = testFolder.resolve("clients.csv");
+        Files.writeString(filePath, CSV);
+        List<?> before = List.copyOf(model.getAddressBook().getPersonList());
+        ImportCommand command = new ImportCommand(filePath);
+        command.execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_UNDO_SUCCESS, 2), command.undo(model));
+        assertEquals(before, model.getAddressBook().getPersonList());
+        assertTrue(model.hasPerson(ALICE));
+
+        // the file is not read again
+        Files.delete(filePath);
+        command.redo(model);
+        assertTrue(model.hasPerson(HOON));
+        assertTrue(model.hasPerson(IDA));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Path.of("first.csv"));
+
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+        assertTrue(importFirstCommand.equals(new ImportCommand(Path.of("first.csv"))));
+        assertFalse(importFirstCommand.equals(null));
+        assertFalse(importFirstCommand.equals(new ImportCommand(Path.of("second.csv"))));
+    }
+}
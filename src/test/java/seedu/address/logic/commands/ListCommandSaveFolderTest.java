@@ -26,6 +26,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
+import seedu.address.model.tag.TagFolderCounts;
 
 /**
  * Focused tests for the "save folder" behaviour of ListCommand.
@@ -131,6 +132,33 @@ public class ListCommandSaveFolderTest {
         public void addPerson(Person person) {
         }
 
+        @Override
+        public void insertPerson(int index, Person person) {
+        }
+
+        @Override
+        public void appendPersons(List<Person> persons) {
+        }
+
+        @Override
+        public List<Person> importPersons(List<Person> persons) {
+            return null;
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+        }
+
+        @Override
+        public TagFolderCounts getTagFolderCounts() {
+            return null;
+        }
+
+        @Override
+        public boolean restoreTagFolderCounts(TagFolderCounts counts) {
+            return false;
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
         }
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BackgroundExporter;
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private final BackgroundExporter exporter = new BackgroundExporter(Runnable::run, Runnable::run, unused -> { });
+    private ExportCommandParser parser = new ExportCommandParser(exporter);
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " exports/my clients.csv ",
+                new ExportCommand(Path.of("exports/my clients.csv"), false, exporter));
+        assertParseSuccess(parser, "clients.JSONL all/", new ExportCommand(Path.of("clients.JSONL"), true, exporter));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "clients.json", expectedMessage);
+        assertParseFailure(parser, "clients.csv all/yes", expectedMessage);
+    }
+}
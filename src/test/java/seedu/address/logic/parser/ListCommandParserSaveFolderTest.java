@@ -27,6 +27,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
+import seedu.address.model.tag.TagFolderCounts;
 
 /**
  * Tests the trailing 's' behaviour and tag parsing for ListCommandParser.
@@ -100,6 +101,21 @@ public class ListCommandParserSaveFolderTest {
         }
         @Override public void addPerson(Person person) {
         }
+        @Override public void insertPerson(int index, Person person) {
+        }
+        @Override public void appendPersons(List<Person> persons) {
+        }
+        @Override public List<Person> importPersons(List<Person> persons) {
+            return null;
+        }
+        @Override public void deletePersons(List<Person> targets) {
+        }
+        @Override public TagFolderCounts getTagFolderCounts() {
+            return null;
+        }
+        @Override public boolean restoreTagFolderCounts(TagFolderCounts counts) {
+            return false;
+        }
         @Override public void setPerson(Person target, Person editedPerson) {
         }
         @Override public int getSize() {
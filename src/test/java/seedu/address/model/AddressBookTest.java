@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -95,6 +96,19 @@ public class AddressBookTest {
         assertEquals(addressBook.getPersonList().size(), 1);
     }
 
+    @Test
+    public void snapshot_laterMutation_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertSame(snapshot, addressBook.snapshot());
+
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+
+        addressBook.resetData(snapshot);
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -115,6 +129,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -20,6 +20,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFolderCounts;
+import seedu.address.storage.SidebarFolderPrefs;
 import seedu.address.testutil.PersonBuilder;
 
 class ModelManagerSidebarTest {
@@ -236,4 +238,58 @@ class ModelManagerSidebarTest {
         assertEquals(before, mm.getActiveTagFolders().size());
     }
 
+    @Test
+    void personMutations_adjustSingleAndCompositeFolderCounts() {
+        ModelManager mm = new ModelManager(new AddressBook(), new UserPrefs());
+        mm.addCompositeTagFolderFromUser(List.of("friends", "colleagues"));
+
+        Person alice = new PersonBuilder().withName("Alice").withPhone("111").withTags("friends").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("222").withTags("friends", "colleagues").build();
+        mm.addPerson(alice);
+        mm.addPerson(bob);
+        assertEquals(2, folderCount(mm, "FRIENDS"));
+        assertEquals(1, folderCount(mm, "COLLEAGUES & FRIENDS"));
+
+        Person editedAlice = new PersonBuilder(alice).withTags("friends", "colleagues").build();
+        mm.setPerson(alice, editedAlice);
+        assertEquals(2, folderCount(mm, "COLLEAGUES"));
+        assertEquals(2, folderCount(mm, "COLLEAGUES & FRIENDS"));
+
+        mm.deletePerson(bob);
+        mm.deletePerson(editedAlice);
+        assertFalse(mm.hasTagFolder("friends")); // auto folders vanish at zero
+        assertEquals(0, folderCount(mm, "COLLEAGUES & FRIENDS")); // user folders stay
+    }
+
+    @Test
+    void restoreTagFolderCounts_countsOfSameBook_sameFoldersAsRecounting() {
+        UserPrefs prefs = new UserPrefs();
+        prefs.setSavedSidebarFolders(List.of(new SidebarFolderPrefs(List.of("friends", "colleagues"))));
+        Person alice = new PersonBuilder().withName("Alice").withPhone("111").withTags("friends").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("222").withTags("friends", "colleagues").build();
+        Person carl = new PersonBuilder().withName("Carl").withPhone("333").withTags("vip").build();
+        ModelManager recounted = new ModelManager(ab(alice, bob, carl), prefs);
+        TagFolderCounts counts = recounted.getTagFolderCounts();
+
+        ModelManager restored = new ModelManager(new AddressBook(), prefs);
+        assertTrue(restored.restoreTagFolderCounts(counts));
+        restored.appendPersons(List.of(alice));
+        assertEquals(2, folderCount(restored, "FRIENDS")); // not recounted from the persons appended so far
+        restored.appendPersons(List.of(bob, carl));
+        assertEquals(recounted.getActiveTagFolders().toString(), restored.getActiveTagFolders().toString());
+
+        assertFalse(restored.restoreTagFolderCounts(counts)); // address book is no longer empty
+
+        UserPrefs otherPrefs = new UserPrefs();
+        otherPrefs.setSavedSidebarFolders(List.of(new SidebarFolderPrefs(List.of("friends", "vip"))));
+        assertFalse(new ModelManager(new AddressBook(), otherPrefs).restoreTagFolderCounts(counts));
+    }
+
+    private static int folderCount(ModelManager mm, String name) {
+        return mm.getActiveTagFolders().stream()
+                .filter(f -> f.getName().equals(name))
+                .findFirst()
+                .orElseThrow()
+                .getCount();
+    }
 }
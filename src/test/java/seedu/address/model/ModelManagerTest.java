@@ -32,6 +32,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.ClientMatchesPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.FeatureTag;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagFolder;
@@ -108,6 +109,20 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void importPersons_someInAddressBook_addsOnlyNewPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(unused -> false);
+
+        assertEquals(List.of(BENSON), modelManager.importPersons(List.of(ALICE, BENSON)));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasTagFolder("OWESMONEY"));
+
+        modelManager.deletePersons(List.of(BENSON));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.hasTagFolder("OWESMONEY"));
+    }
+
     @Test
     public void manipulate_bizTags_successful() throws CommandException {
         modelManager.addPerson(ALICE);
@@ -164,6 +179,30 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_keywordSearchThenPersonRestored_restoredPersonShown() {
+        Person renamed = new PersonBuilder(ALICE).withName("Carl Kurz").withEmail("carl@example.com").build();
+        modelManager.addPerson(renamed);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new ClientMatchesPredicate(List.of("alice")));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // as when an edit is undone
+        modelManager.setPerson(renamed, ALICE);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_keywordSearchThenBookRestored_matchesShown() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager.updateFilteredPersonList(new ClientMatchesPredicate(List.of("alice")));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // as when a clear is undone
+        modelManager.setAddressBook(addressBook);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
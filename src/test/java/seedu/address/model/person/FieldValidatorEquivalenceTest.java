@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.ValidationConstants.PRINTABLE_ASCII_REGEX;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks the single-pass field validators against the regular expressions they replace, on random inputs
+ * built from the characters that matter to each field.
+ */
+public class FieldValidatorEquivalenceTest {
+
+    private static final int RUNS = 20_000;
+    private static final Pattern PRINTABLE_ASCII = Pattern.compile(PRINTABLE_ASCII_REGEX);
+
+    private final Random random = new Random(2103);
+
+    private static Predicate<String> reference(String regex, int maxLength) {
+        Pattern pattern = Pattern.compile(regex);
+        return test -> test.length() <= maxLength
+                && PRINTABLE_ASCII.matcher(test).matches()
+                && pattern.matcher(test).matches();
+    }
+
+    private String randomString(String[] pieces, int maxPieces) {
+        StringBuilder sb = new StringBuilder();
+        int count = random.nextInt(maxPieces + 1);
+        for (int i = 0; i < count; i++) {
+            sb.append(pieces[random.nextInt(pieces.length)]);
+        }
+        return sb.toString();
+    }
+
+    private void assertEquivalent(Predicate<String> expected, Predicate<String> actual, String... pieces) {
+        for (int i = 0; i < RUNS; i++) {
+            String test = randomString(pieces, 12);
+            assertEquals(expected.test(test), actual.test(test), "validators disagree on \"" + test + "\"");
+        }
+    }
+
+    @Test
+    public void isValidName_randomInputs_matchesRegex() {
+        assertEquivalent(reference(Name.VALIDATION_REGEX, Name.MAX_LENGTH), Name::isValidName,
+                "a", "Z", "1", " ", "(", ")", ",", "/", ".", "@", "-", "'", "_", "\t", "é");
+        String longName = "a".repeat(Name.MAX_LENGTH);
+        assertTrue(Name.isValidName(longName));
+        assertFalse(Name.isValidName(longName + "a"));
+    }
+
+    @Test
+    public void isValidPhone_randomInputs_matchesRegex() {
+        assertEquivalent(reference(Phone.VALIDATION_REGEX, Integer.MAX_VALUE), Phone::isValidPhone,
+                "0", "5", "9", "12", "123", " ", "+", "a", "١");
+    }
+
+    @Test
+    public void isValidEmail_randomInputs_matchesRegex() {
+        assertEquivalent(reference(Email.VALIDATION_REGEX, Email.MAX_LENGTH), Email::isValidEmail,
+                "a", "B", "7", "ab", "x-y", "-", ".", "@", "+", "_", " ", "!", "é");
+    }
+
+    @Test
+    public void isValidAddress_randomInputs_matchesRegex() {
+        Predicate<String> regex = reference(Address.VALIDATION_REGEX, Address.MAX_LENGTH);
+        assertEquivalent(regex.and(test -> !test.endsWith(" ")), Address::isValidAddress,
+                "a", "#", "1", " ", "\t", "\n", "-", ",", "é");
+    }
+
+    @Test
+    public void isValidTagName_randomInputs_matchesRegex() {
+        assertEquivalent(reference(Tag.VALIDATION_REGEX, Tag.MAX_LENGTH), Tag::isValidTagName,
+                "a", "Z", "0", "-", "_", " ", ".", "é");
+    }
+
+    @Test
+    public void isValidEmail_backtrackingInput_rejected() {
+        // the nested groups of the domain regex try every way of splitting this domain before failing
+        String domain = "a".repeat(Email.MAX_LENGTH - 4);
+        assertFalse(Email.isValidEmail("x@" + domain + "!"));
+        assertTrue(Email.isValidEmail("x@" + domain));
+    }
+}
@@ -116,6 +116,18 @@ public class PersonTest {
         assertTrue(ALICE.equals(ALICE.copy()));
     }
 
+    @Test
+    public void hashCode_deepCopy_sameHashCode() {
+        assertEquals(ALICE.hashCode(), ALICE.copy().hashCode());
+    }
+
+    @Test
+    public void normalizedFields_returnLowerCasedValues() {
+        Person person = new PersonBuilder().withName("Alice PAULINE").withEmail("Alice@Example.com").build();
+        assertEquals("alice pauline", person.getNormalizedName());
+        assertEquals("alice@example.com", person.getNormalizedEmail());
+    }
+
     @Test
     public void constructor_exceedsTagLimit_throwsIllegalArgumentException() {
         Set<Tag> tooMany = IntStream.rangeClosed(1, Person.MAX_TAGS_PER_PERSON + 1)
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,6 +10,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.testutil.PersonBuilder;
 
 public class TagMatchesAllPredicateTest {
@@ -40,6 +42,30 @@ public class TagMatchesAllPredicateTest {
         assertTrue(predicate.test(person));
     }
 
+    @Test
+    public void test_personMissingRequiredTag_returnsFalse() {
+        Person person = new PersonBuilder()
+                .withName("Bernice Yu")
+                .withTags("friends")
+                .build();
+
+        TagMatchesAllPredicate predicate =
+                new TagMatchesAllPredicate(Set.of(new Tag("friends"), new Tag("colleagues")));
+
+        assertFalse(predicate.test(person));
+        assertFalse(new TagMatchesAllPredicate(Set.of(new Tag("neverUsedByAnyone"))).test(person));
+    }
+
+    @Test
+    public void test_unregisteredTag_notRegisteredUntilPersonCarriesIt() {
+        int registrySize = TagRegistry.size();
+        TagMatchesAllPredicate predicate = new TagMatchesAllPredicate(Set.of(new Tag("typoTagNobodyHas")));
+        assertEquals(registrySize, TagRegistry.size());
+
+        Person person = new PersonBuilder().withTags("typoTagNobodyHas").build();
+        assertTrue(predicate.test(person));
+    }
+
     @Test
     public void equals() {
         TagMatchesAllPredicate a = new TagMatchesAllPredicate(Set.of(new Tag("friends")));
@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void candidatesFor_shortKeyword_returnsEmptyOptional() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE);
+        assertTrue(index.candidatesFor("al").isEmpty());
+    }
+
+    @Test
+    public void candidatesFor_keywordInAnyField_returnsPerson() {
+        TrigramIndex index = new TrigramIndex();
+        index.reset(List.of(ALICE, BENSON));
+        assertEquals(Set.of(ALICE), index.candidatesFor("aLIce").get());
+        assertTrue(index.candidatesFor(ALICE.getPhone().value.substring(0, 4)).get().contains(ALICE));
+        assertTrue(index.candidatesFor(BENSON.getEmail().value).get().contains(BENSON));
+    }
+
+    @Test
+    public void candidatesFor_unknownTrigram_returnsNoCandidates() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE);
+        assertTrue(index.candidatesFor("zzz").get().isEmpty());
+    }
+
+    @Test
+    public void remove_person_dropsItFromCandidates() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertTrue(index.candidatesFor("alice").get().isEmpty());
+        assertEquals(Set.of(BENSON), index.candidatesFor("benson").get());
+    }
+}
@@ -49,6 +49,23 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentNameCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().toString().toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_afterRemoveAndSetPerson_tracksIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -134,6 +151,23 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.removeAll(List.of(ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -0,0 +1,58 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+class TagIndexTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice").withPhone("111").withTags("friends").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withPhone("222")
+            .withTags("friends", "colleagues").build();
+
+    @Test
+    void count_singleTag_returnsPostingSize() {
+        TagIndex index = new TagIndex();
+        index.add(alice);
+        index.add(bob);
+        assertEquals(2, index.count("FRIENDS"));
+        assertEquals(1, index.count("COLLEAGUES"));
+        assertEquals(0, index.count("FAMILY"));
+    }
+
+    @Test
+    void countAll_multipleTags_returnsIntersectionSize() {
+        TagIndex index = new TagIndex();
+        index.add(alice);
+        index.add(bob);
+        assertEquals(1, index.countAll(List.of("FRIENDS", "COLLEAGUES")));
+        assertEquals(0, index.countAll(List.of("FRIENDS", "FAMILY")));
+    }
+
+    @Test
+    void remove_lastCarrier_dropsTagName() {
+        TagIndex index = new TagIndex();
+        index.add(alice);
+        index.add(bob);
+        index.remove(bob);
+        assertFalse(index.getTagNames().contains("COLLEAGUES"));
+        assertTrue(index.getTagNames().contains("FRIENDS"));
+        assertEquals(1, index.count("FRIENDS"));
+    }
+
+    @Test
+    void reset_replacesAllPostings() {
+        TagIndex index = new TagIndex();
+        index.add(alice);
+        index.reset(List.of(bob));
+        assertEquals(1, index.count("FRIENDS"));
+        assertEquals(1, index.count("COLLEAGUES"));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class TagRegistryTest {
+
+    @Test
+    void intern_equalTags_returnSameId() {
+        int id = TagRegistry.intern(new Tag("registryFriends"));
+        assertEquals(id, TagRegistry.intern(new Tag("REGISTRYFRIENDS")));
+        assertEquals(id, TagRegistry.idOf(new Tag("registryfriends")));
+        assertNotEquals(id, TagRegistry.intern(new Tag("registryColleagues")));
+    }
+
+    @Test
+    void get_internedId_returnsCanonicalTag() {
+        Tag tag = new Tag("registryCanonical");
+        int id = TagRegistry.intern(tag);
+        assertSame(tag, TagRegistry.get(id));
+        assertSame(tag, TagRegistry.get(TagRegistry.intern(new Tag("registryCanonical"))));
+    }
+
+    @Test
+    void idOf_unknownTag_returnsUnknownId() {
+        assertEquals(TagRegistry.UNKNOWN_ID, TagRegistry.idOf(new Tag("registryNeverInterned")));
+    }
+}
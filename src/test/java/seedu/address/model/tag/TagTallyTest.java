@@ -0,0 +1,39 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+class TagTallyTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice").withPhone("111").withTags("friends").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withPhone("222")
+            .withTags("friends", "colleagues").build();
+
+    @Test
+    void countOf_singlePass_countsEveryTag() {
+        TagTally tally = TagTally.of(List.of(alice, bob));
+        assertEquals(2, tally.countOf(new Tag("friends")));
+        assertEquals(1, tally.countOf(new Tag("colleagues")));
+        assertEquals(0, tally.countOf(new Tag("neverCarriedByAnyone")));
+    }
+
+    @Test
+    void parallel_largeList_matchesSequential() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            persons.add(i % 2 == 0 ? alice : bob);
+        }
+        TagTally sequential = TagTally.sequential(persons);
+        TagTally parallel = TagTally.parallel(persons);
+        assertEquals(20_000, parallel.countOf(new Tag("friends")));
+        assertEquals(sequential.countOf(new Tag("friends")), parallel.countOf(new Tag("friends")));
+        assertEquals(sequential.countOf(new Tag("colleagues")), parallel.countOf(new Tag("colleagues")));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("missing.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readPersons_invalidLastPerson_failsOnlyWhenRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[indexOf(bytes, persons.get(persons.size() - 1).getPhone().value)] = 'x';
+        Files.write(filePath, bytes);
+
+        PersonSource source = storage.readPersons().get();
+        assertEquals(persons.size(), source.size());
+        assertEquals(persons.subList(0, persons.size() - 1), source.read(0, persons.size() - 1));
+        assertThrows(DataLoadingException.class, () -> source.read(persons.size() - 1, persons.size()));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    private static int indexOf(byte[] bytes, String value) {
+        byte[] target = value.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError(value + " not found");
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryPersonTableTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private ByteBuffer saveTypicalAddressBook() throws IOException {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        return ByteBuffer.wrap(Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void getPerson_anyOrder_decodesThatPerson() throws Exception {
+        BinaryPersonTable table = new BinaryPersonTable(saveTypicalAddressBook());
+        List<Person> expected = getTypicalAddressBook().getPersonList();
+
+        assertEquals(expected.size(), table.size());
+        for (int i = table.size() - 1; i >= 0; i--) {
+            assertEquals(expected.get(i), table.getPerson(i));
+        }
+    }
+
+    @Test
+    public void constructor_emptyAddressBook_noPersons() throws Exception {
+        Path filePath = testFolder.resolve("empty.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+
+        assertEquals(0, new BinaryPersonTable(ByteBuffer.wrap(Files.readAllBytes(filePath))).size());
+    }
+
+    @Test
+    public void constructor_lengthPastEndOfFile_throwsIoException() throws Exception {
+        ByteBuffer buffer = saveTypicalAddressBook();
+        buffer.putInt(12, Integer.MAX_VALUE); // tag count
+
+        assertThrows(IOException.class, () -> new BinaryPersonTable(buffer));
+    }
+}
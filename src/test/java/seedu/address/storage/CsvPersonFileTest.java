@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Phone;
+
+public class CsvPersonFileTest {
+
+    private static final String HEADER = "name,phone,email,address,tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_quotedFields_success() throws Exception {
+        String csv = HEADER
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends\r\n"
+                + "\n"
+                + "\"Benson Meier\",98765432,johnd@example.com,\"311, Clementi Ave 2, #02-25\",\"owesMoney friends\"\n"
+                + "Carl Kurz,95352563,heinz@example.com,wall street,";
+        assertEquals(List.of(ALICE, BENSON, CARL), CsvPersonFile.read(new StringReader(csv)).getPersonList());
+    }
+
+    @Test
+    public void read_columnsInAnyOrder_success() throws Exception {
+        String csv = "\uFEFFPhone,Address,Notes,Email,Name\n"
+                + "95352563,wall street,\"says \"\"hi\"\"\nfirst\",heinz@example.com,Carl Kurz\n";
+        assertEquals(List.of(CARL), CsvPersonFile.read(new StringReader(csv)).getPersonList());
+    }
+
+    @Test
+    public void read_missingColumn_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(CsvPersonFile.MESSAGE_MISSING_COLUMN, "email"), () ->
+                CsvPersonFile.read(new StringReader("name,phone,address\n")));
+    }
+
+    @Test
+    public void read_invalidRecord_reportsLine() {
+        // the quoted tags span lines 2 and 3
+        String csv = HEADER
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",\"friends\nvip\"\n"
+                + "Carl Kurz,9535a,heinz@example.com,wall street,\n";
+        assertThrows(IllegalValueException.class, String.format(CsvPersonFile.MESSAGE_INVALID_RECORD, 4,
+                Phone.MESSAGE_CONSTRAINTS), () -> CsvPersonFile.read(new StringReader(csv)));
+    }
+
+    @Test
+    public void read_wrongFieldCount_throwsIllegalValueException() {
+        String csv = HEADER + "Carl Kurz,95352563,heinz@example.com,wall, street,\n";
+        assertThrows(IllegalValueException.class, String.format(CsvPersonFile.MESSAGE_INVALID_RECORD, 2,
+                String.format(CsvPersonFile.MESSAGE_WRONG_FIELD_COUNT, 5, 6)), () ->
+                CsvPersonFile.read(new StringReader(csv)));
+    }
+
+    @Test
+    public void read_unterminatedQuote_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("clients.csv");
+        Files.writeString(filePath, HEADER + "Carl Kurz,95352563,heinz@example.com,\"wall street,\n");
+        assertThrows(DataLoadingException.class, () -> CsvPersonFile.read(filePath));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.TagFolderCounts;
+
+public class IndexCacheTest {
+
+    private static final TagFolderCounts COUNTS = new TagFolderCounts(7, Map.of("FRIENDS", 3, "OWESMONEY", 1),
+            Map.of("FRIENDS", 3, "FRIENDS & OWESMONEY", 1));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_matchingData_returnsSavedCounts() throws Exception {
+        Path dataPath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(dataPath).saveAddressBook(getTypicalAddressBook());
+        IndexCache cache = new IndexCache(dataPath);
+        assertFalse(cache.read().isPresent());
+
+        cache.save(COUNTS);
+        assertEquals(COUNTS, new IndexCache(dataPath).read().get());
+    }
+
+    @Test
+    public void read_dataChanged_emptyResult() throws Exception {
+        Path dataPath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(dataPath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        IndexCache cache = new IndexCache(dataPath);
+        cache.save(COUNTS);
+
+        // only the journal changes
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void read_corruptCache_emptyResult() throws Exception {
+        Path dataPath = testFolder.resolve("addressbook.json");
+        IndexCache cache = new IndexCache(dataPath);
+        Files.writeString(cache.getCacheFilePath(), "{\"dataChecksum\": ");
+        assertFalse(cache.read().isPresent());
+
+        Files.writeString(cache.getCacheFilePath(), "{\"dataChecksum\": " + IndexCache.checksumOf(dataPath)
+                + ", \"personCount\": 1, \"tagCounts\": {\"FRIENDS\": 2}}");
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void checksumOf_shardDirectory_coversEveryShard() throws Exception {
+        Path dataPath = testFolder.resolve("addressbook.shards");
+        new ShardedAddressBookStorage(dataPath, 4).saveAddressBook(getTypicalAddressBook());
+        long checksum = IndexCache.checksumOf(dataPath);
+
+        Path shard = ShardedAddressBookStorage.getShardFilePath(dataPath, 3);
+        Files.writeString(shard, Files.readString(shard) + " ");
+        assertNotEquals(checksum, IndexCache.checksumOf(dataPath));
+    }
+}
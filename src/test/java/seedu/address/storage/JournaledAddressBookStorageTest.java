@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage newStorage() {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToLogAndReplayed() throws Exception {
+        JournaledAddressBookStorage storage = newStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(storage.getAddressBookFilePath());
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withTags("vip").build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        // the snapshot is left alone and only the changes are logged
+        assertArrayEquals(snapshot, Files.readAllBytes(storage.getAddressBookFilePath()));
+        assertEquals(1 + 4, Files.readAllLines(storage.getLogFilePath()).size());
+
+        assertEquals(original, newStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedBook_writesNothing() throws Exception {
+        JournaledAddressBookStorage storage = newStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        long logSize = Files.size(storage.getLogFilePath());
+
+        storage.saveAddressBook(original);
+        assertEquals(logSize, Files.size(storage.getLogFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_ignored() throws Exception {
+        JournaledAddressBookStorage storage = newStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getLogFilePath(), "{\"op\":\"add\",\"ind", StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = newStorage();
+        AddressBook read = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, read);
+
+        // the torn log is compacted away instead of being appended to
+        read.addPerson(IDA);
+        reopened.saveAddressBook(read);
+        assertEquals(read, newStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_logOfOlderSnapshot_ignored() throws Exception {
+        JournaledAddressBookStorage storage = newStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // as if a compaction was interrupted after rewriting the snapshot
+        AddressBook compacted = getTypicalAddressBook();
+        compacted.addPerson(IDA);
+        new JsonAddressBookStorage(storage.getAddressBookFilePath()).saveAddressBook(compacted);
+
+        assertEquals(compacted, newStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readPersons_logWithChanges_replayed() throws Exception {
+        JournaledAddressBookStorage storage = newStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        PersonSource source = newStorage().readPersons().get();
+        assertEquals(original.getPersonList(), source.read(0, source.size()));
+    }
+
+    @Test
+    public void readPersons_jsonBookThenEdit_appendedToLog() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = newStorage();
+        byte[] snapshot = Files.readAllBytes(storage.getAddressBookFilePath());
+
+        PersonSource source = storage.readPersons().get();
+        AddressBook loaded = new AddressBook();
+        loaded.setPersons(source.read(0, source.size()));
+        loaded.setPerson(ALICE, new PersonBuilder(ALICE).withTags("vip").build());
+        storage.saveAddressBook(loaded);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(storage.getAddressBookFilePath()));
+        assertEquals(1 + 2, Files.readAllLines(storage.getLogFilePath()).size());
+        assertEquals(loaded, newStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void readPersons_binaryBookMarkedLoadedThenEdit_appendedToLog() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath))
+                .saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        PersonSource source = storage.readPersons().get();
+        AddressBook loaded = new AddressBook();
+        loaded.setPersons(source.read(0, source.size()));
+        storage.markAddressBookSaved(loaded);
+        loaded.addPerson(HOON);
+        storage.saveAddressBook(loaded);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(1 + 1, Files.readAllLines(storage.getLogFilePath()).size());
+    }
+
+    @Test
+    public void readPersons_binaryBookNotMarkedLoaded_rewrittenOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath))
+                .saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+
+        PersonSource source = storage.readPersons().get();
+        AddressBook loaded = new AddressBook();
+        loaded.setPersons(source.read(0, source.size()));
+        loaded.addPerson(HOON);
+        storage.saveAddressBook(loaded);
+
+        assertEquals(1, Files.readAllLines(storage.getLogFilePath()).size());
+        assertEquals(loaded, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void diff_reorderedPersons_returnsNull() {
+        assertNull(JournaledAddressBookStorage.diff(List.of(ALICE, BENSON), List.of(BENSON, ALICE)));
+        assertEquals(2, JournaledAddressBookStorage.diff(List.of(ALICE, BENSON), List.of(HOON, BENSON)).size());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,54 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compactOutput_noTemporaryFileLeft() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(1L, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json" + StreamCompression.FILE_EXTENSION);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.readString(filePath, StandardCharsets.ISO_8859_1).contains("persons"));
+    }
+
+    @Test
+    public void readAddressBook_plainFileWithCompressedName_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json" + StreamCompression.FILE_EXTENSION);
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(testFolder.resolve("plain.json")).saveAddressBook(original, filePath);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_repetitiveBook_compressedMuchSmaller() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withName("Client " + (char) ('A' + i % 26))
+                    .withPhone(String.valueOf(80_000_000 + i)).withEmail("client" + i + "@example.com")
+                    .withAddress("Blk " + i % 50 + " Clementi Avenue 3, #0" + i % 9 + "-20")
+                    .withTags("insurance", "client").build();
+            addressBook.addPerson(person);
+        }
+        Path plainPath = testFolder.resolve("addressbook.json");
+        Path compressedPath = testFolder.resolve("addressbook.json" + StreamCompression.FILE_EXTENSION);
+        new JsonAddressBookStorage(plainPath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(compressedPath).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(compressedPath) * 5 < Files.size(plainPath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(compressedPath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,11 +3,15 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -44,4 +48,25 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readModelType(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_PERSON_FILE));
+    }
+
+    private static AddressBook readModelType(Path file) throws Exception {
+        try (InputStream in = Files.newInputStream(file); JsonParser parser = JsonUtil.createParser(in)) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
 }
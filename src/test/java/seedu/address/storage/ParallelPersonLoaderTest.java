@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonLoaderTest {
+
+    private static final int COUNT = 3 * ParallelPersonLoader.CHUNK_SIZE + 7;
+
+    private static Person personAt(int index) {
+        return new PersonBuilder().withPhone(String.valueOf(100_000 + index)).build();
+    }
+
+    private static ParallelPersonLoader<Integer> loaderOf(ParallelPersonLoader.Converter<Integer> converter) {
+        ParallelPersonLoader<Integer> loader = new ParallelPersonLoader<>(converter);
+        for (int i = 0; i < COUNT; i++) {
+            loader.add(i);
+        }
+        return loader;
+    }
+
+    @Test
+    public void toAddressBook_severalChunks_keepsRecordOrder() throws Exception {
+        List<Person> persons = loaderOf(ParallelPersonLoaderTest::personAt).toAddressBook().getPersonList();
+
+        assertEquals(COUNT, persons.size());
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(personAt(i), persons.get(i));
+        }
+    }
+
+    @Test
+    public void toAddressBook_invalidRecordBeforeDuplicate_reportsInvalidRecord() {
+        ParallelPersonLoader<Integer> loader = loaderOf(i -> {
+            if (i == ParallelPersonLoader.CHUNK_SIZE + 1) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            return personAt(i == 2 * ParallelPersonLoader.CHUNK_SIZE ? 0 : i);
+        });
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, loader::toAddressBook);
+    }
+
+    @Test
+    public void toAddressBook_duplicateBeforeInvalidRecord_reportsDuplicate() {
+        ParallelPersonLoader<Integer> loader = loaderOf(i -> {
+            if (i == 2 * ParallelPersonLoader.CHUNK_SIZE) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            return personAt(i == 5 ? 0 : i);
+        });
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                loader::toAddressBook);
+    }
+}
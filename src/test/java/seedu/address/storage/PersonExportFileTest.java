@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonExportFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_csv_readBackAsSamePersons() throws Exception {
+        Path filePath = testFolder.resolve("exports").resolve("clients.csv");
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Quoted Person").withAddress("\"The Loft\", 1 Main St").build());
+
+        PersonExportFile.write(persons, filePath, unused -> { });
+        assertEquals(persons, CsvPersonFile.read(filePath).getPersonList());
+        assertFalse(Files.exists(filePath.resolveSibling("clients.csv.tmp")));
+    }
+
+    @Test
+    public void write_jsonLines_onePersonPerLine() throws Exception {
+        Path filePath = testFolder.resolve("clients.jsonl");
+        List<Person> persons = getTypicalPersons();
+
+        PersonExportFile.write(persons, filePath, unused -> { });
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(persons.size(), lines.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i), JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPerson.class).toModelType());
+        }
+    }
+
+    @Test
+    public void write_manyPersons_reportsProgress() throws Exception {
+        List<Integer> progress = new ArrayList<>();
+        List<Person> persons = Collections.nCopies(PersonExportFile.PROGRESS_INTERVAL * 2 + 1, ALICE);
+
+        PersonExportFile.write(persons, testFolder.resolve("clients.csv"), progress::add);
+        assertEquals(List.of(PersonExportFile.PROGRESS_INTERVAL, PersonExportFile.PROGRESS_INTERVAL * 2), progress);
+    }
+
+    @Test
+    public void write_failure_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("clients.csv");
+        Files.writeString(filePath, "previous export");
+
+        List<Person> persons = Collections.nCopies(PersonExportFile.PROGRESS_INTERVAL, ALICE);
+        assertThrows(IllegalStateException.class, () -> PersonExportFile.write(persons, filePath, unused -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("previous export", Files.readString(filePath));
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private ShardedAddressBookStorage newStorage(int shardCount) {
+        return new ShardedAddressBookStorage(testFolder.resolve("addressbook.shards"), shardCount);
+    }
+
+    private Map<Integer, String> readShards(ShardedAddressBookStorage storage) throws Exception {
+        Map<Integer, String> shards = new HashMap<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Path shardPath = ShardedAddressBookStorage.getShardFilePath(storage.getAddressBookFilePath(), shard);
+            if (Files.exists(shardPath)) {
+                shards.put(shard, Files.readString(shardPath));
+            }
+        }
+        return shards;
+    }
+
+    private int countChanged(Map<Integer, String> before, Map<Integer, String> after) {
+        int changed = 0;
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            if (!String.valueOf(before.get(shard)).equals(String.valueOf(after.get(shard)))) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(newStorage(SHARD_COUNT).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_edits_onlyTouchedShardsRewritten() throws Exception {
+        ShardedAddressBookStorage storage = newStorage(SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Map<Integer, String> before = readShards(storage);
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("vip").build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        assertEquals(1, countChanged(before, readShards(storage)));
+
+        before = readShards(storage);
+        original.insertPerson(0, HOON);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        int expected = ShardedAddressBookStorage.shardOf(HOON, SHARD_COUNT)
+                == ShardedAddressBookStorage.shardOf(BENSON, SHARD_COUNT) ? 1 : 2;
+        assertEquals(expected, countChanged(before, readShards(storage)));
+
+        assertEquals(original, newStorage(SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_afterReload_keepsOrderAcrossSaves() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage(SHARD_COUNT).saveAddressBook(original);
+
+        ShardedAddressBookStorage reopened = newStorage(SHARD_COUNT);
+        AddressBook read = new AddressBook(reopened.readAddressBook().get());
+        read.insertPerson(3, IDA);
+        read.insertPerson(0, HOON);
+        reopened.saveAddressBook(read);
+
+        assertEquals(read, newStorage(SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_differentShardCount_layoutRewritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage(SHARD_COUNT * 2).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = newStorage(SHARD_COUNT);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, read);
+        storage.saveAddressBook(read);
+
+        Path extraShard = ShardedAddressBookStorage.getShardFilePath(storage.getAddressBookFilePath(), SHARD_COUNT);
+        assertFalse(Files.exists(extraShard));
+        assertEquals(original, newStorage(SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void rankChanges_reorderedPersons_returnsNull() {
+        Map<Person, Long> ranks = Map.of(ALICE, 0L, BENSON, 1000L);
+        assertNull(ShardedAddressBookStorage.rankChanges(ranks, List.of(BENSON, ALICE), new boolean[SHARD_COUNT]));
+
+        boolean[] dirty = new boolean[SHARD_COUNT];
+        long[] newRanks = ShardedAddressBookStorage.rankChanges(ranks, List.of(ALICE, HOON, BENSON), dirty);
+        assertTrue(newRanks[0] < newRanks[1] && newRanks[1] < newRanks[2]);
+        assertTrue(dirty[ShardedAddressBookStorage.shardOf(HOON, SHARD_COUNT)]);
+    }
+}
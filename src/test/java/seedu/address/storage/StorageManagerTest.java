@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +64,36 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedVersion_skipsWrite() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.addPerson(HOON);
+        storageManager.saveAddressBook(original);
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveUserPrefs_unchangedVersion_skipsWrite() throws Exception {
+        UserPrefs original = new UserPrefs();
+        storageManager.saveUserPrefs(original);
+        Files.delete(storageManager.getUserPrefsFilePath());
+
+        // setting an equal value is not a change
+        original.setGuiSettings(new GuiSettings());
+        storageManager.saveUserPrefs(original);
+        assertFalse(Files.exists(storageManager.getUserPrefsFilePath()));
+
+        original.setGuiSettings(new GuiSettings(300, 600, 4, 6));
+        storageManager.saveUserPrefs(original);
+        assertTrue(Files.exists(storageManager.getUserPrefsFilePath()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
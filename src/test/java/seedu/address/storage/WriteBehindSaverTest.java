@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_burstWhileSaving_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                saved.add(addressBook);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        WriteBehindSaver saver = new WriteBehindSaver(storage, e -> { });
+
+        AddressBook addressBook = getTypicalAddressBook();
+        UserPrefs userPrefs = new UserPrefs();
+        saver.submit(addressBook.snapshot(), userPrefs);
+        started.await(); // the first save is now blocked on the disk
+
+        addressBook.addPerson(HOON);
+        saver.submit(addressBook.snapshot(), userPrefs);
+        addressBook.removePerson(HOON);
+        ReadOnlyAddressBook last = addressBook.snapshot();
+        saver.submit(last, userPrefs);
+
+        release.countDown();
+        saver.flush();
+        assertEquals(2, saved.size());
+        assertSame(last, saved.get(1));
+        saver.shutdown();
+    }
+
+    @Test
+    public void submit_saveFails_failureHandlerCalled() {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        List<IOException> reported = new ArrayList<>();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, reported::add);
+
+        saver.submit(getTypicalAddressBook().snapshot(), new UserPrefs());
+        saver.shutdown();
+        assertEquals(List.of(failure), reported);
+    }
+
+    @Test
+    public void submit_saveThrowsRuntimeException_failureHandlerCalled() {
+        IllegalStateException failure = new IllegalStateException("cannot serialize");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                throw failure;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        List<IOException> reported = new ArrayList<>();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, reported::add);
+
+        saver.submit(getTypicalAddressBook().snapshot(), new UserPrefs());
+        saver.shutdown();
+        assertEquals(1, reported.size());
+        assertSame(failure, reported.get(0).getCause());
+    }
+}